@@ -0,0 +1,34 @@
+package org.example;
+
+import java.awt.Color;
+import java.util.Random;
+
+// Palettes and codes of arbitrary size for the benchmarks
+final class Games {
+    private Games() {
+    }
+
+    static Color[] palette(int colors) {
+        Color[] palette = new Color[colors];
+        for (int i = 0; i < colors; i++) {
+            palette[i] = Color.getHSBColor((float) i / colors, 0.8f, 0.9f);
+        }
+        return palette;
+    }
+
+    static String[] labels(int colors) {
+        String[] labels = new String[colors];
+        for (int i = 0; i < colors; i++) {
+            labels[i] = String.valueOf((char) ('A' + i));
+        }
+        return labels;
+    }
+
+    static Color[] randomGuess(Random random, Color[] palette, int pegs) {
+        Color[] guess = new Color[pegs];
+        for (int i = 0; i < pegs; i++) {
+            guess[i] = palette[random.nextInt(palette.length)];
+        }
+        return guess;
+    }
+}
@@ -0,0 +1,55 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// A whole game played on entropy hints (hint and retain for every move), per game size (colors x pegs).
+// Divide by the moves of a game for the latency of one hint.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HintBenchmark {
+    @Param({"6x4", "8x5", "8x6", "10x6"})
+    private String size;
+
+    private CodeSpace space;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        String[] parts = size.split("x");
+        space = new CodeSpace(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public int playGame() {
+        HintEngine engine = new HintEngine(space);
+        int secret = space.code(random.nextInt(space.getSize()));
+        int moves = 0;
+        while (true) {
+            int guess = engine.hint().code;
+            moves++;
+            int feedback = Scoring.score(guess, secret, space.getPegs());
+            if (Scoring.blacks(feedback) == space.getPegs()) {
+                return moves;
+            }
+            engine.retain(guess, feedback);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example;
+
+import org.example.ui.MasterMindLogic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Public MasterMindLogic entry points across game sizes
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LogicBenchmark {
+    // Power of two so the guess index can wrap with a mask
+    private static final int GUESSES = 1024;
+
+    @Param({"6", "10", "16", "20"})
+    private int colors;
+
+    @Param({"4", "8", "12"})
+    private int pegs;
+
+    private MasterMindLogic logic;
+    private Color[][] guesses;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Color[] palette = Games.palette(colors);
+        logic = new MasterMindLogic(palette, pegs, Games.labels(colors));
+
+        Random random = new Random(42);
+        guesses = new Color[GUESSES][];
+        for (int i = 0; i < GUESSES; i++) {
+            guesses[i] = Games.randomGuess(random, palette, pegs);
+        }
+    }
+
+    @Benchmark
+    public MasterMindLogic.Result checkGuess() {
+        return logic.checkGuess(guesses[next++ & (GUESSES - 1)]);
+    }
+
+    @Benchmark
+    public int score() {
+        return logic.score(guesses[next++ & (GUESSES - 1)]);
+    }
+
+    @Benchmark
+    public int[] generateSecret() {
+        return logic.generateSecret(pegs);
+    }
+
+    @Benchmark
+    public String showSecret() {
+        return logic.showSecret();
+    }
+}
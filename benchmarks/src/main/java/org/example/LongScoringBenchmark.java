@@ -0,0 +1,65 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Scoring codes packed in a long against the index-array fallback, from classic to 16 pegs (colors x pegs)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LongScoringBenchmark {
+    private static final int CODES = 1024;
+
+    @Param({"6x4", "16x8", "16x12", "16x16"})
+    private String size;
+
+    private int pegs;
+    private long[] codes;
+    private int[][] indexCodes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        String[] parts = size.split("x");
+        int colors = Integer.parseInt(parts[0]);
+        pegs = Integer.parseInt(parts[1]);
+
+        Random random = new Random(42);
+        codes = new long[CODES];
+        indexCodes = new int[CODES][];
+        for (int i = 0; i < CODES; i++) {
+            indexCodes[i] = new int[pegs];
+            for (int j = 0; j < pegs; j++) {
+                indexCodes[i][j] = random.nextInt(colors);
+            }
+            codes[i] = Scoring.encodeLong(indexCodes[i]);
+        }
+    }
+
+    @Benchmark
+    public int packedLong() {
+        int i = next++;
+        return Scoring.scoreLong(codes[i & (CODES - 1)], codes[(i >>> 10) & (CODES - 1)], pegs);
+    }
+
+    @Benchmark
+    public int indexArrays() {
+        int i = next++;
+        return Scoring.score(indexCodes[i & (CODES - 1)], indexCodes[(i >>> 10) & (CODES - 1)]);
+    }
+}
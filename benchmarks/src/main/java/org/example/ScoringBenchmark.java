@@ -0,0 +1,80 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// The packed scoring kernel alone, on the sizes the packed code format supports (colors x pegs)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ScoringBenchmark {
+    private static final int CODES = 1024;
+
+    @Param({"6x4", "8x5", "10x6", "16x8"})
+    private String size;
+
+    private int pegs;
+    private int[] codes;
+    private int[][] indexCodes;
+    private int[] feedbacks;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        String[] parts = size.split("x");
+        int colors = Integer.parseInt(parts[0]);
+        pegs = Integer.parseInt(parts[1]);
+
+        Random random = new Random(42);
+        codes = new int[CODES];
+        indexCodes = new int[CODES][];
+        for (int i = 0; i < CODES; i++) {
+            indexCodes[i] = new int[pegs];
+            for (int j = 0; j < pegs; j++) {
+                indexCodes[i][j] = random.nextInt(colors);
+            }
+            codes[i] = Scoring.encode(indexCodes[i]);
+        }
+        feedbacks = new int[CODES];
+    }
+
+    @Benchmark
+    public int packed() {
+        int i = next++;
+        return Scoring.score(codes[i & (CODES - 1)], codes[(i >>> 10) & (CODES - 1)], pegs);
+    }
+
+    @Benchmark
+    public int indexArrays() {
+        int i = next++;
+        return Scoring.score(indexCodes[i & (CODES - 1)], indexCodes[(i >>> 10) & (CODES - 1)]);
+    }
+
+    // One guess against all codes, reported per call (divide by 1024 for per-secret cost)
+    @Benchmark
+    public int[] batch() {
+        Scoring.scoreAllScalar(codes[next++ & (CODES - 1)], codes, CODES, pegs, feedbacks);
+        return feedbacks;
+    }
+
+    @Benchmark
+    public int[] batchVector() {
+        VectorScoring.scoreAll(codes[next++ & (CODES - 1)], codes, CODES, pegs, feedbacks);
+        return feedbacks;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example;
+
+import org.example.ui.StartupProbe;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Cold-start benchmark: starts the game jar in fresh JVMs with -Dmastermind.startupProbe=true and
+// measures the wall time until the probe reports the first frame. With an archive it also runs
+// with -XX:SharedArchiveFile, so AppCDS and no-CDS numbers come from the same machine and session.
+// JMH isn't used here, its harness would already have loaded and warmed most of the JVM.
+// Usage: java -cp benchmarks.jar org.example.StartupBenchmark <game jar> [runs] [archive.jsa]
+public class StartupBenchmark {
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: StartupBenchmark <game jar> [runs] [archive.jsa]");
+            System.exit(2);
+        }
+        String jar = Path.of(args[0]).toAbsolutePath().toString();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        report("default", measure(runs, "-Dmastermind.startupProbe=true", "-jar", jar));
+        if (args.length > 2) {
+            String archive = "-XX:SharedArchiveFile=" + Path.of(args[2]).toAbsolutePath();
+            report("appcds", measure(runs, archive, "-Dmastermind.startupProbe=true", "-jar", jar));
+        }
+    }
+
+    // Time to first frame of each run, in milliseconds and sorted
+    private static long[] measure(int runs, String... jvmArgs) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(jvmArgs));
+
+        long[] millis = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            boolean seen = false;
+            try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line;
+                while (!seen && (line = out.readLine()) != null) {
+                    seen = line.equals(StartupProbe.FIRST_FRAME);
+                }
+            }
+            millis[i] = (System.nanoTime() - start) / 1_000_000;
+            process.waitFor();
+            if (!seen) {
+                throw new IllegalStateException("Game exited without reporting a first frame: " + command);
+            }
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    private static void report(String name, long[] millis) {
+        System.out.printf("%-8s time to first frame: min %d ms, median %d ms, max %d ms (%d runs)%n",
+                name, millis[0], millis[millis.length / 2], millis[millis.length - 1], millis.length);
+    }
+}
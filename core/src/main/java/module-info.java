@@ -0,0 +1,6 @@
+// The engine only needs java.base; the Vector API is used when the module is present at run time
+module org.example.mastermind.core {
+    requires static jdk.incubator.vector;
+
+    exports org.example;
+}
@@ -0,0 +1,137 @@
+package org.example;
+
+import java.util.function.IntConsumer;
+
+// Codes of a CodeSpace that are still possible secrets, one bit per rank.
+// Starts with every code and is narrowed in place with retain(guess, feedback) after each turn.
+public class CandidateSet {
+    // Codes gathered per Scoring.scoreAll call while filtering
+    private static final int BATCH = 1024;
+    // Scratch buffers for retain, one set per thread: a worker playing game after game reuses them
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final CodeSpace SPACE;
+    private final long[] words;
+    private int count;
+
+    private static class Scratch {
+        final int[] ranks = new int[BATCH];
+        final int[] codes = new int[BATCH];
+        final int[] feedbacks = new int[BATCH];
+    }
+
+    public CandidateSet(CodeSpace space) {
+        this.SPACE = space;
+        int size = space.getSize();
+        this.words = new long[(size + 63) >>> 6];
+        for (int i = 0; i < size >>> 6; i++) {
+            words[i] = -1L;
+        }
+        if ((size & 63) != 0) {
+            words[words.length - 1] = (1L << (size & 63)) - 1;
+        }
+        this.count = size;
+    }
+
+    private CandidateSet(CandidateSet other) {
+        this.SPACE = other.SPACE;
+        this.words = other.words.clone();
+        this.count = other.count;
+    }
+
+    public CandidateSet copy() {
+        return new CandidateSet(this);
+    }
+
+    // Keeps only the codes that would have produced this feedback for the guess, returns the new size
+    public int retain(int guess, int feedback) {
+        Scratch scratch = SCRATCH.get();
+        int pegs = SPACE.getPegs();
+        int gathered = 0;
+        for (int w = 0; w < words.length; w++) {
+            for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+                int rank = w << 6 | Long.numberOfTrailingZeros(bits);
+                scratch.ranks[gathered] = rank;
+                scratch.codes[gathered] = SPACE.code(rank);
+                if (++gathered == BATCH) {
+                    removeMismatches(scratch, guess, feedback, gathered, pegs);
+                    gathered = 0;
+                }
+            }
+        }
+        removeMismatches(scratch, guess, feedback, gathered, pegs);
+        return count;
+    }
+
+    private void removeMismatches(Scratch scratch, int guess, int feedback, int gathered, int pegs) {
+        Scoring.scoreAll(guess, scratch.codes, gathered, pegs, scratch.feedbacks);
+        for (int i = 0; i < gathered; i++) {
+            if (scratch.feedbacks[i] != feedback) {
+                int rank = scratch.ranks[i];
+                words[rank >>> 6] &= ~(1L << rank);
+                count--;
+            }
+        }
+    }
+
+    public boolean contains(int rank) {
+        return (words[rank >>> 6] & 1L << rank) != 0;
+    }
+
+    public void remove(int rank) {
+        if (contains(rank)) {
+            words[rank >>> 6] &= ~(1L << rank);
+            count--;
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    // Smallest rank in the set at or after from, or -1
+    public int nextRank(int from) {
+        int w = from >>> 6;
+        if (w >= words.length) {
+            return -1;
+        }
+        long bits = words[w] & (-1L << from);
+        while (bits == 0) {
+            if (++w == words.length) {
+                return -1;
+            }
+            bits = words[w];
+        }
+        return w << 6 | Long.numberOfTrailingZeros(bits);
+    }
+
+    public int first() {
+        return nextRank(0);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int w = 0; w < words.length; w++) {
+            for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+                action.accept(w << 6 | Long.numberOfTrailingZeros(bits));
+            }
+        }
+    }
+
+    // Writes the ranks in ascending order to out, which must hold size() entries
+    public void toRanks(int[] out) {
+        int n = 0;
+        for (int w = 0; w < words.length; w++) {
+            for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+                out[n++] = w << 6 | Long.numberOfTrailingZeros(bits);
+            }
+        }
+    }
+
+    public CodeSpace getSpace() {
+        return SPACE;
+    }
+}
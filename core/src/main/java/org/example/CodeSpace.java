@@ -0,0 +1,68 @@
+package org.example;
+
+// Every code of a game size, numbered 0..size-1 (rank) with the first peg as the lowest digit.
+// Ranks index dense tables such as FeedbackMatrix, codes are the packed form used by Scoring.
+public final class CodeSpace {
+    private final int COLORS;
+    private final int PEGS;
+    private final int[] CODES;
+
+    public CodeSpace(int colors, int pegs) {
+        if (colors < 1 || pegs < 1 || !Scoring.fits(colors, pegs)) {
+            throw new IllegalArgumentException("Unsupported game size: " + colors + " colors, " + pegs + " pegs");
+        }
+        long size = 1;
+        for (int i = 0; i < pegs; i++) {
+            size *= colors;
+        }
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Code space too large: " + size + " codes");
+        }
+
+        this.COLORS = colors;
+        this.PEGS = pegs;
+        this.CODES = new int[(int) size];
+
+        // Counting in base COLORS, one nibble per digit
+        int[] digits = new int[pegs];
+        for (int rank = 1; rank < CODES.length; rank++) {
+            int i = 0;
+            while (++digits[i] == colors) {
+                digits[i++] = 0;
+            }
+            CODES[rank] = Scoring.encode(digits);
+        }
+    }
+
+    public int code(int rank) {
+        return CODES[rank];
+    }
+
+    public int rank(int code) {
+        int rank = 0;
+        for (int i = PEGS - 1; i >= 0; i--) {
+            rank = rank * COLORS + Scoring.peg(code, i);
+        }
+        return rank;
+    }
+
+    public int score(int guessRank, int secretRank) {
+        return Scoring.score(CODES[guessRank], CODES[secretRank], PEGS);
+    }
+
+    public boolean sameSize(CodeSpace other) {
+        return COLORS == other.COLORS && PEGS == other.PEGS;
+    }
+
+    public int getColors() {
+        return COLORS;
+    }
+
+    public int getPegs() {
+        return PEGS;
+    }
+
+    public int getSize() {
+        return CODES.length;
+    }
+}
@@ -0,0 +1,141 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+// Feedback of every guess against every secret of a CodeSpace, one byte per pair.
+// The table lives in a file that is memory-mapped, so it is only computed the first time.
+public final class FeedbackMatrix {
+    // File layout: magic, version, colors, pegs, CRC-32 of the table, then size * size feedback bytes
+    // (row = guess rank)
+    private static final int MAGIC = 0x4D4D4658;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 20;
+    private static final int CRC_OFFSET = 16;
+    // Packed feedback only fits a byte up to 7 pegs
+    private static final int MAX_PEGS = 7;
+
+    private final CodeSpace SPACE;
+    private final int SIZE;
+    private final ByteBuffer TABLE;
+
+    private FeedbackMatrix(CodeSpace space, ByteBuffer table) {
+        this.SPACE = space;
+        this.SIZE = space.getSize();
+        this.TABLE = table;
+    }
+
+    // Maps the matrix stored in file, computing and writing it first if it is missing, stale or
+    // damaged (wrong length or checksum, e.g. a copy cut short)
+    public static FeedbackMatrix open(Path file, CodeSpace space) throws IOException {
+        long length = length(space);
+        FeedbackMatrix matrix = map(file, space, length);
+        if (matrix == null) {
+            write(file, space, length);
+            matrix = map(file, space, length);
+            if (matrix == null) {
+                throw new IOException("Feedback matrix " + file + " doesn't check out right after writing it");
+            }
+        }
+        return matrix;
+    }
+
+    // Same table computed on the heap, for when there is no usable file
+    public static FeedbackMatrix compute(CodeSpace space) {
+        ByteBuffer table = ByteBuffer.allocate((int) length(space));
+        fill(table, space);
+        return new FeedbackMatrix(space, table);
+    }
+
+    // Whether a game size has a matrix: a CodeSpace, at most MAX_PEGS pegs and a table that fits a buffer
+    public static boolean supports(int colors, int pegs) {
+        if (colors < 1 || pegs < 1 || pegs > MAX_PEGS || !Scoring.fits(colors, pegs)) {
+            return false;
+        }
+        double size = Math.pow(colors, pegs);
+        return size * size <= Integer.MAX_VALUE - HEADER_BYTES;
+    }
+
+    public int feedback(int guessRank, int secretRank) {
+        return TABLE.get(HEADER_BYTES + guessRank * SIZE + secretRank) & 0xFF;
+    }
+
+    public CodeSpace getSpace() {
+        return SPACE;
+    }
+
+    private static long length(CodeSpace space) {
+        if (!supports(space.getColors(), space.getPegs())) {
+            throw new IllegalArgumentException("Code space too large for a feedback matrix");
+        }
+        return HEADER_BYTES + (long) space.getSize() * space.getSize();
+    }
+
+    // The mapped matrix, or null unless the file has the header and checksum of this space's table
+    private static FeedbackMatrix map(Path file, CodeSpace space, long length) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != length) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            boolean valid = table.getInt(0) == MAGIC
+                    && table.getInt(4) == VERSION
+                    && table.getInt(8) == space.getColors()
+                    && table.getInt(12) == space.getPegs()
+                    && table.getInt(CRC_OFFSET) == checksum(table);
+            return valid ? new FeedbackMatrix(space, table) : null;
+        }
+    }
+
+    // Header and rows; rows are independent, so they are computed in parallel
+    private static void fill(ByteBuffer table, CodeSpace space) {
+        int size = space.getSize();
+        table.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, space.getColors()).putInt(12, space.getPegs());
+        IntStream.range(0, size).parallel().forEach(guess -> {
+            int row = HEADER_BYTES + guess * size;
+            for (int secret = 0; secret < size; secret++) {
+                table.put(row + secret, (byte) space.score(guess, secret));
+            }
+        });
+        table.putInt(CRC_OFFSET, checksum(table));
+    }
+
+    private static int checksum(ByteBuffer table) {
+        CRC32 crc = new CRC32();
+        crc.update(table.slice(HEADER_BYTES, table.capacity() - HEADER_BYTES));
+        return (int) crc.getValue();
+    }
+
+    // Fills a temporary file next to the target and moves it in place once complete
+    private static void write(Path file, CodeSpace space, long length) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer table = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+                fill(table, space);
+                table.force();
+            }
+            if (Files.size(tmp) != length) {
+                throw new IOException("Incomplete feedback matrix written to " + tmp);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example;
+
+import java.util.random.RandomGenerator;
+
+// One headless game: a packed secret, the guesses played so far and their feedback.
+// Works on packed codes only, so it can run without any AWT class (see MasterMindLogic for the UI side).
+public class Game {
+    private final CodeSpace SPACE;
+    private final int SECRET;
+    private final int MAX_ROUNDS;
+    private final int[] guesses;
+    private final int[] feedbacks;
+    private int round = 0;
+    private boolean won = false;
+    // Created on first use, since only strategies need it
+    private CandidateSet candidates;
+
+    public Game(CodeSpace space, int secret, int maxRounds) {
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("A game needs at least one round");
+        }
+        this.SPACE = space;
+        this.SECRET = secret;
+        this.MAX_ROUNDS = maxRounds;
+        this.guesses = new int[maxRounds];
+        this.feedbacks = new int[maxRounds];
+    }
+
+    // This game so far played against another secret, which must give the same feedback to every
+    // guess; the candidates are copied instead of filtered again from the whole code space
+    public Game withSecret(int secret) {
+        Game game = new Game(SPACE, secret, MAX_ROUNDS);
+        for (int i = 0; i < round; i++) {
+            if (Scoring.score(guesses[i], secret, SPACE.getPegs()) != feedbacks[i]) {
+                throw new IllegalArgumentException("The secret doesn't match the feedback of round " + i);
+            }
+        }
+        System.arraycopy(guesses, 0, game.guesses, 0, round);
+        System.arraycopy(feedbacks, 0, game.feedbacks, 0, round);
+        game.round = round;
+        game.won = won;
+        if (candidates != null) {
+            game.candidates = candidates.copy();
+        }
+        return game;
+    }
+
+    // Game with a uniformly random secret, like MasterMindLogic.generateSecret
+    public static Game random(CodeSpace space, int maxRounds, RandomGenerator random) {
+        return new Game(space, space.code(random.nextInt(space.getSize())), maxRounds);
+    }
+
+    // Scores a guess, records it and returns the packed feedback. Guesses can come from clients of
+    // GameService, so anything that isn't a code of this game's space is rejected before scoring.
+    public int submit(int guess) {
+        if (isOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        if (!Scoring.isCode(guess, SPACE.getColors(), SPACE.getPegs())) {
+            throw new IllegalArgumentException("Not a " + SPACE.getColors() + "x" + SPACE.getPegs() + " code: 0x"
+                    + Integer.toHexString(guess));
+        }
+        int feedback = Scoring.score(guess, SECRET, SPACE.getPegs());
+        guesses[round] = guess;
+        feedbacks[round] = feedback;
+        round++;
+        won = Scoring.blacks(feedback) == SPACE.getPegs();
+        if (candidates != null) {
+            candidates.retain(guess, feedback);
+        }
+        return feedback;
+    }
+
+    public boolean isOver() {
+        return won || round == MAX_ROUNDS;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+
+    public CandidateSet getCandidates() {
+        if (candidates == null) {
+            candidates = new CandidateSet(SPACE);
+            for (int i = 0; i < round; i++) {
+                candidates.retain(guesses[i], feedbacks[i]);
+            }
+        }
+        return candidates;
+    }
+
+    public int getGuess(int round) {
+        checkPlayed(round);
+        return guesses[round];
+    }
+
+    public int getFeedback(int round) {
+        checkPlayed(round);
+        return feedbacks[round];
+    }
+
+    private void checkPlayed(int round) {
+        if (round < 0 || round >= this.round) {
+            throw new IndexOutOfBoundsException("Round " + round + " has not been played");
+        }
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public int getMaxRounds() {
+        return MAX_ROUNDS;
+    }
+
+    public int getSecret() {
+        return SECRET;
+    }
+
+    public CodeSpace getSpace() {
+        return SPACE;
+    }
+}
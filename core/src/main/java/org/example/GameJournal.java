@@ -0,0 +1,349 @@
+package org.example;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// Append-only binary log of finished games. Records are gathered into blocks of about 64 KiB that go
+// to disk with one write each, so a crash loses at most the open block and never leaves half a game:
+// a torn block at the end fails its length or checksum and is cut off when the journal is reopened.
+public class GameJournal implements Closeable {
+    // File layout: magic, version, then blocks of payload length, game count, base start millis and
+    // CRC32 of the payload, followed by the payload. A game in the payload is colors and pegs (a byte
+    // each), the guess count (varint), the start minus the block's base (zigzag varint), the secret
+    // (a byte per two pegs) and per guess its code, Scoring.slot of its feedback (a byte) and the
+    // milliseconds since the previous guess (varint).
+    private static final int MAGIC = 0x4D4D4A4E;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 8;
+    private static final int BLOCK_HEADER_BYTES = 20;
+    private static final int BLOCK_BYTES = 64 * 1024;
+    // Sanity limit for a block length read back from disk
+    private static final int MAX_BLOCK_BYTES = 64 * 1024 * 1024;
+
+    // Packed feedback of every Scoring.slot, per peg count
+    private static final int[][] SLOT_FEEDBACKS = new int[Scoring.MAX_LONG_PEGS + 1][];
+
+    static {
+        for (int pegs = 1; pegs <= Scoring.MAX_LONG_PEGS; pegs++) {
+            SLOT_FEEDBACKS[pegs] = new int[Scoring.slots(pegs)];
+            for (int blacks = 0; blacks <= pegs; blacks++) {
+                for (int whites = 0; blacks + whites <= pegs; whites++) {
+                    int feedback = Scoring.feedback(blacks, whites);
+                    SLOT_FEEDBACKS[pegs][Scoring.slot(feedback, pegs)] = feedback;
+                }
+            }
+        }
+    }
+
+    private final FileChannel CHANNEL;
+    private final ByteBuffer HEADER = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+    private final CRC32 CRC = new CRC32();
+    private ByteBuffer block = ByteBuffer.allocate(BLOCK_BYTES);
+    private int games;
+    private long base;
+    private long end;
+
+    private GameJournal(FileChannel channel, long end) {
+        this.CHANNEL = channel;
+        this.end = end;
+    }
+
+    // Opens a journal for appending, creating it if needed and cutting off a torn block left by a crash
+    public static GameJournal open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long end;
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+                writeFully(channel, new ByteBuffer[]{header}, 0);
+                end = FILE_HEADER_BYTES;
+            } else {
+                checkHeader(channel, file);
+                end = validEnd(channel, file);
+                if (end < channel.size()) {
+                    channel.truncate(end);
+                }
+            }
+            return new GameJournal(channel, end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public synchronized void append(GameRecord record) throws IOException {
+        int bytes = maxBytes(record);
+        if (games > 0 && block.remaining() < bytes) {
+            flush();
+        }
+        if (block.capacity() < bytes) {
+            block = ByteBuffer.allocate(bytes);
+        }
+        if (games == 0) {
+            base = record.start;
+        }
+        encode(block, record, base);
+        games++;
+    }
+
+    // Writes the open block, if any
+    public synchronized void flush() throws IOException {
+        if (games == 0) {
+            return;
+        }
+        block.flip();
+        CRC.reset();
+        CRC.update(block.duplicate());
+        HEADER.clear().putInt(block.remaining()).putInt(games).putLong(base).putInt((int) CRC.getValue()).flip();
+        end = writeFully(CHANNEL, new ByteBuffer[]{HEADER, block}, end);
+        block.clear();
+        games = 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+            CHANNEL.force(false);
+        } finally {
+            CHANNEL.close();
+        }
+    }
+
+    // Streams every game of the journal in order and returns how many there were.
+    // A torn block at the end is skipped like open() would cut it off, a bad block before it is an error.
+    public static long read(Path file, Consumer<GameRecord> action) throws IOException {
+        long[] blocks = blocks(file);
+        return read(file, blocks, 0, blocks.length, action);
+    }
+
+    // Offsets of the blocks of a journal, found by hopping from block header to block header, so the
+    // games can be read in segments (in parallel, each segment with read(file, blocks, from, to, action))
+    public static long[] blocks(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            checkHeader(channel, file);
+            return scan(channel);
+        }
+    }
+
+    // Streams the games of blocks[from..to) in order and returns how many there were
+    public static long read(Path file, long[] blocks, int from, int to, Consumer<GameRecord> action) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            BlockReader reader = new BlockReader(channel, file);
+            long count = 0;
+            for (int i = from; i < to; i++) {
+                if (!reader.load(blocks[i])) {
+                    break;
+                }
+                count += reader.forEach(action);
+            }
+            return count;
+        }
+    }
+
+    // Reads one block at a time into a reused buffer and checks it against its checksum
+    private static final class BlockReader {
+        private final FileChannel channel;
+        private final Path file;
+        private final ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        private final CRC32 crc = new CRC32();
+        private ByteBuffer payload = ByteBuffer.allocate(BLOCK_BYTES);
+        private int games;
+        private long base;
+
+        BlockReader(FileChannel channel, Path file) {
+            this.channel = channel;
+            this.file = file;
+        }
+
+        // False for a torn block at the end of the file
+        boolean load(long position) throws IOException {
+            long size = channel.size();
+            readFully(channel, header.clear(), position);
+            int length = header.flip().getInt();
+            games = header.getInt();
+            base = header.getLong();
+            int checksum = header.getInt();
+            long next = position + BLOCK_HEADER_BYTES + length;
+            if (length < 0 || length > MAX_BLOCK_BYTES || next > size) {
+                return false;
+            }
+            if (payload.capacity() < length) {
+                payload = ByteBuffer.allocate(length);
+            }
+            readFully(channel, payload.clear().limit(length), position + BLOCK_HEADER_BYTES);
+            payload.flip();
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                if (next == size) {
+                    return false;
+                }
+                throw new IOException("Corrupt journal block at offset " + position + " in " + file);
+            }
+            return true;
+        }
+
+        int forEach(Consumer<GameRecord> action) {
+            for (int i = 0; i < games; i++) {
+                action.accept(decode(payload, base));
+            }
+            return games;
+        }
+    }
+
+    // ----- Encoding -----
+    private static int maxBytes(GameRecord record) {
+        int codeBytes = (record.pegs + 1) >>> 1;
+        return 2 + 5 + 10 + codeBytes + record.getRounds() * (codeBytes + 1 + 5);
+    }
+
+    private static void encode(ByteBuffer out, GameRecord record, long base) {
+        int pegs = record.pegs;
+        out.put((byte) record.colors).put((byte) pegs);
+        putVarLong(out, record.getRounds());
+        long delta = record.start - base;
+        putVarLong(out, delta << 1 ^ delta >> 63);
+        putCode(out, record.secret, pegs);
+        int previous = 0;
+        for (int i = 0; i < record.getRounds(); i++) {
+            putCode(out, record.guesses[i], pegs);
+            out.put((byte) Scoring.slot(record.feedbacks[i], pegs));
+            putVarLong(out, record.times[i] - previous);
+            previous = record.times[i];
+        }
+    }
+
+    private static GameRecord decode(ByteBuffer in, long base) {
+        int colors = in.get() & 0xFF;
+        int pegs = in.get() & 0xFF;
+        int rounds = (int) getVarLong(in);
+        long zigzag = getVarLong(in);
+        long start = base + (zigzag >>> 1 ^ -(zigzag & 1));
+        long secret = getCode(in, pegs);
+        long[] guesses = new long[rounds];
+        int[] feedbacks = new int[rounds];
+        int[] times = new int[rounds];
+        int[] slotFeedbacks = SLOT_FEEDBACKS[pegs];
+        int time = 0;
+        for (int i = 0; i < rounds; i++) {
+            guesses[i] = getCode(in, pegs);
+            feedbacks[i] = slotFeedbacks[in.get() & 0xFF];
+            time += (int) getVarLong(in);
+            times[i] = time;
+        }
+        return new GameRecord(colors, pegs, secret, guesses, feedbacks, start, times);
+    }
+
+    // Two nibbles per byte, peg 0 in the low nibble of the first byte
+    private static void putCode(ByteBuffer out, long code, int pegs) {
+        for (int i = 0; i < pegs; i += 2) {
+            out.put((byte) (code >>> (i << 2)));
+        }
+    }
+
+    private static long getCode(ByteBuffer in, int pegs) {
+        long code = 0;
+        for (int i = 0; i < pegs; i += 2) {
+            code |= (long) (in.get() & 0xFF) << (i << 2);
+        }
+        // An odd peg count leaves the unused high nibble of the last byte empty
+        return (pegs & 1) == 0 ? code : code & ((1L << (pegs << 2)) - 1);
+    }
+
+    private static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    // ----- File access -----
+    private static void checkHeader(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+        if (channel.size() < FILE_HEADER_BYTES) {
+            throw new IOException("Not a game journal: " + file);
+        }
+        readFully(channel, header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("Not a game journal: " + file);
+        }
+    }
+
+    // Offsets of the blocks whose header and payload lengths fit in the file
+    private static long[] scan(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long position = FILE_HEADER_BYTES;
+        long[] blocks = new long[16];
+        int count = 0;
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        while (position + BLOCK_HEADER_BYTES <= size) {
+            readFully(channel, header.clear(), position);
+            int length = header.flip().getInt();
+            if (length < 0 || length > MAX_BLOCK_BYTES || position + BLOCK_HEADER_BYTES + length > size) {
+                break;
+            }
+            if (count == blocks.length) {
+                blocks = Arrays.copyOf(blocks, count * 2);
+            }
+            blocks[count++] = position;
+            position += BLOCK_HEADER_BYTES + length;
+        }
+        return Arrays.copyOf(blocks, count);
+    }
+
+    // End of the last complete block whose checksum matches.
+    // Blocks are written whole, so only the last one can hold a partly written payload.
+    private static long validEnd(FileChannel channel, Path file) throws IOException {
+        long[] blocks = scan(channel);
+        if (blocks.length == 0) {
+            return FILE_HEADER_BYTES;
+        }
+        long last = blocks[blocks.length - 1];
+        if (!new BlockReader(channel, file).load(last)) {
+            return last;
+        }
+        ByteBuffer length = ByteBuffer.allocate(4);
+        readFully(channel, length, last);
+        return last + BLOCK_HEADER_BYTES + length.flip().getInt();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of journal");
+            }
+            position += read;
+        }
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer[] buffers, long position) throws IOException {
+        channel.position(position);
+        while (buffers[buffers.length - 1].hasRemaining()) {
+            position += channel.write(buffers);
+        }
+        return position;
+    }
+}
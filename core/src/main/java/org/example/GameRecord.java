@@ -0,0 +1,60 @@
+package org.example;
+
+// One finished game as stored in a GameJournal: the game size, the secret and every guess with its
+// feedback, all packed as in Scoring (codes in a long, so up to 16 pegs), plus when it was played.
+public class GameRecord {
+    public final int colors, pegs;
+    public final long secret;
+    public final long[] guesses;
+    public final int[] feedbacks;
+    // Wall clock start in epoch milliseconds, and the milliseconds from the start to each guess
+    public final long start;
+    public final int[] times;
+
+    public GameRecord(int colors, int pegs, long secret, long[] guesses, int[] feedbacks, long start, int[] times) {
+        if (colors < 1 || pegs < 1 || !Scoring.fitsLong(colors, pegs)) {
+            throw new IllegalArgumentException("Unsupported game size: " + colors + " colors, " + pegs + " pegs");
+        }
+        if (guesses.length != feedbacks.length || guesses.length != times.length) {
+            throw new IllegalArgumentException("Every guess needs its feedback and time");
+        }
+        for (int i = 0; i < times.length; i++) {
+            if (times[i] < (i == 0 ? 0 : times[i - 1])) {
+                throw new IllegalArgumentException("Guess times must not go back");
+            }
+        }
+        this.colors = colors;
+        this.pegs = pegs;
+        this.secret = secret;
+        this.guesses = guesses;
+        this.feedbacks = feedbacks;
+        this.start = start;
+        this.times = times;
+    }
+
+    // Record of a headless game, every guess timed at the start. Int codes are unsigned in a long.
+    public static GameRecord of(Game game, long start) {
+        int rounds = game.getRound();
+        long[] guesses = new long[rounds];
+        int[] feedbacks = new int[rounds];
+        for (int i = 0; i < rounds; i++) {
+            guesses[i] = game.getGuess(i) & 0xFFFFFFFFL;
+            feedbacks[i] = game.getFeedback(i);
+        }
+        CodeSpace space = game.getSpace();
+        return new GameRecord(space.getColors(), space.getPegs(), game.getSecret() & 0xFFFFFFFFL, guesses, feedbacks, start, new int[rounds]);
+    }
+
+    public int getRounds() {
+        return guesses.length;
+    }
+
+    public boolean isWon() {
+        return guesses.length > 0 && Scoring.blacks(feedbacks[guesses.length - 1]) == pegs;
+    }
+
+    // Milliseconds from the start to the last guess
+    public int getDuration() {
+        return times.length == 0 ? 0 : times[times.length - 1];
+    }
+}
@@ -0,0 +1,201 @@
+package org.example;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// Hosts many concurrent headless games keyed by a random game id.
+// Sessions are spread over lock stripes, each an access-ordered map, so a stripe evicts its least
+// recently used game when full and idle games sit at the head of their stripe.
+public class GameService {
+    private static final int MAX_STRIPES = 16;
+
+    private final CodeSpace SPACE;
+    private final int ROUNDS;
+    private final long IDLE_NANOS;
+    private final LongSupplier CLOCK;
+    private final Stripe[] stripes;
+    private final LongAdder evictions = new LongAdder();
+
+    public GameService(CodeSpace space, int rounds, int capacity, Duration idleTimeout) {
+        this(space, rounds, capacity, idleTimeout, System::nanoTime);
+    }
+
+    // The clock returns nanoseconds, like System.nanoTime
+    public GameService(CodeSpace space, int rounds, int capacity, Duration idleTimeout, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.SPACE = space;
+        this.ROUNDS = rounds;
+        this.IDLE_NANOS = idleTimeout.toNanos();
+        this.CLOCK = clock;
+
+        // Split the capacity exactly over the stripes, never more stripes than sessions
+        int count = Math.min(MAX_STRIPES, Integer.highestOneBit(capacity));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(capacity / count + (i < capacity % count ? 1 : 0));
+        }
+    }
+
+    // Starts a game with a random secret and returns its id
+    public long newGame() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Game game = Game.random(SPACE, ROUNDS, random);
+        while (true) {
+            long id = random.nextLong() & Long.MAX_VALUE;
+            Stripe stripe = stripeOf(id);
+            stripe.lock.lock();
+            try {
+                if (!stripe.sessions.containsKey(id)) {
+                    stripe.sessions.put(id, new Session(game, CLOCK.getAsLong()));
+                    return id;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    // Plays a guess in a game and returns the packed feedback
+    public int submit(long id, int guess) {
+        Stripe stripe = stripeOf(id);
+        stripe.lock.lock();
+        try {
+            return stripe.get(id).game.submit(guess);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public Status status(long id) {
+        Stripe stripe = stripeOf(id);
+        stripe.lock.lock();
+        try {
+            return new Status(stripe.get(id).game);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // Removes a game, returns false if it was already gone
+    public boolean end(long id) {
+        Stripe stripe = stripeOf(id);
+        stripe.lock.lock();
+        try {
+            return stripe.sessions.remove(id) != null;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // Removes every game idle for longer than the timeout and returns how many were removed
+    public int evictIdle() {
+        long now = CLOCK.getAsLong();
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                // Access order puts the longest idle sessions first
+                Iterator<Session> it = stripe.sessions.values().iterator();
+                while (it.hasNext() && now - it.next().lastAccess > IDLE_NANOS) {
+                    it.remove();
+                    removed++;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        evictions.add(removed);
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.sessions.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    // Games removed for being idle or least recently used
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private Stripe stripeOf(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> 32) & (stripes.length - 1)];
+    }
+
+    private static class Session {
+        final Game game;
+        long lastAccess;
+
+        Session(Game game, long now) {
+            this.game = game;
+            this.lastAccess = now;
+        }
+    }
+
+    private class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<Long, Session> sessions;
+
+        Stripe(int capacity) {
+            // Access-ordered, so the eldest entry is the least recently used session
+            this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Session> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        // Session for an id, refreshing its idle timer; expired sessions are dropped on the way
+        Session get(long id) {
+            Session session = sessions.get(id);
+            long now = CLOCK.getAsLong();
+            if (session != null && now - session.lastAccess > IDLE_NANOS) {
+                sessions.remove(id);
+                evictions.increment();
+                session = null;
+            }
+            if (session == null) {
+                throw new NoSuchElementException("Unknown or expired game: " + id);
+            }
+            session.lastAccess = now;
+            return session;
+        }
+    }
+
+    // Snapshot of a game, the secret is only revealed once the game is over
+    public static class Status {
+        public final int round, maxRounds, secret;
+        public final boolean over, won;
+
+        Status(Game game) {
+            this.round = game.getRound();
+            this.maxRounds = game.getMaxRounds();
+            this.over = game.isOver();
+            this.won = game.isWon();
+            this.secret = over ? game.getSecret() : -1;
+        }
+    }
+}
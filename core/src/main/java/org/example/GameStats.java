@@ -0,0 +1,192 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Statistics over recorded games: guesses per game, win rate for any round limit, how often each
+// color is in a secret and the time per move. Everything is counters or a QuantileSketch, so the
+// memory doesn't grow with the number of games (the guess histograms grow with the longest game
+// only) and partial results merge exactly. of(journal) reads
+// the journal's blocks in parallel, each fork-join leaf streaming its own run of blocks.
+// Usage: java -cp master-mind-core.jar org.example.GameStats games.bin
+public class GameStats {
+    // Guess counts the histograms start with, they grow when a longer game comes along
+    private static final int INITIAL_ROUNDS = 64;
+    // Journal blocks (about 64 KiB each) read by one fork-join leaf
+    private static final int LEAF_BLOCKS = 16;
+
+    private long[] rounds = new long[INITIAL_ROUNDS + 1];
+    private long[] wonRounds = new long[INITIAL_ROUNDS + 1];
+    private final long[] secretColors = new long[Scoring.MAX_COLORS];
+    private final QuantileSketch moveMillis = new QuantileSketch();
+    private long games, wins, guesses, secretPegs;
+
+    public void add(GameRecord record) {
+        int played = record.getRounds();
+        if (played >= rounds.length) {
+            grow(Math.max(played + 1, rounds.length * 2));
+        }
+        games++;
+        guesses += record.getRounds();
+        rounds[played]++;
+        if (record.isWon()) {
+            wins++;
+            wonRounds[played]++;
+        }
+        for (int i = 0; i < record.pegs; i++) {
+            secretColors[Scoring.peg(record.secret, i)]++;
+        }
+        secretPegs += record.pegs;
+        int previous = 0;
+        for (int time : record.times) {
+            moveMillis.add(time - previous);
+            previous = time;
+        }
+    }
+
+    public GameStats merge(GameStats other) {
+        if (other.rounds.length > rounds.length) {
+            grow(other.rounds.length);
+        }
+        for (int i = 0; i < other.rounds.length; i++) {
+            rounds[i] += other.rounds[i];
+            wonRounds[i] += other.wonRounds[i];
+        }
+        for (int i = 0; i < secretColors.length; i++) {
+            secretColors[i] += other.secretColors[i];
+        }
+        moveMillis.merge(other.moveMillis);
+        games += other.games;
+        wins += other.wins;
+        guesses += other.guesses;
+        secretPegs += other.secretPegs;
+        return this;
+    }
+
+    private void grow(int length) {
+        rounds = Arrays.copyOf(rounds, length);
+        wonRounds = Arrays.copyOf(wonRounds, length);
+    }
+
+    public static GameStats of(Path journal) throws IOException {
+        return of(journal, ForkJoinPool.commonPool());
+    }
+
+    public static GameStats of(Path journal, ForkJoinPool pool) throws IOException {
+        long[] blocks = GameJournal.blocks(journal);
+        try {
+            return pool.invoke(new SegmentTask(journal, blocks, 0, blocks.length));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Statistics of blocks[from..to) of a journal
+    private static class SegmentTask extends RecursiveTask<GameStats> {
+        private final Path file;
+        private final long[] blocks;
+        private final int from, to;
+
+        SegmentTask(Path file, long[] blocks, int from, int to) {
+            this.file = file;
+            this.blocks = blocks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected GameStats compute() {
+            if (to - from <= LEAF_BLOCKS) {
+                GameStats stats = new GameStats();
+                try {
+                    GameJournal.read(file, blocks, from, to, stats::add);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            SegmentTask left = new SegmentTask(file, blocks, from, mid);
+            left.fork();
+            GameStats right = new SegmentTask(file, blocks, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    // Share of the games that were won within roundLimit guesses, as if the game had stopped there
+    public double getWinRate(int roundLimit) {
+        long won = 0;
+        for (int i = 0; i <= Math.min(roundLimit, wonRounds.length - 1); i++) {
+            won += wonRounds[i];
+        }
+        return games == 0 ? 0 : (double) won / games;
+    }
+
+    public double getAverageGuesses() {
+        return games == 0 ? 0 : (double) guesses / games;
+    }
+
+    // Games per number of guesses played, as long as the longest game needs and at least 65 entries
+    public long[] getGuessCounts() {
+        return rounds.clone();
+    }
+
+    // Share of all secret pegs that had this color
+    public double getSecretColorFrequency(int color) {
+        return secretPegs == 0 ? 0 : (double) secretColors[color] / secretPegs;
+    }
+
+    public QuantileSketch getMoveMillis() {
+        return moveMillis;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(String.format(
+                "%d games, %d won (%.1f%%), %.3f guesses/game%n", games, wins, 100 * getWinRate(), getAverageGuesses()));
+        out.append("guesses:");
+        for (int i = 0; i < rounds.length; i++) {
+            if (rounds[i] > 0) {
+                out.append(String.format(" %d=%d", i, rounds[i]));
+            }
+        }
+        out.append(String.format("%nwin rate by round limit:"));
+        for (int limit = 1; limit < wonRounds.length; limit++) {
+            if (wonRounds[limit] > 0) {
+                out.append(String.format(" %d=%.1f%%", limit, 100 * getWinRate(limit)));
+            }
+        }
+        out.append(String.format("%nsecret colors:"));
+        for (int color = 0; color < secretColors.length; color++) {
+            if (secretColors[color] > 0) {
+                out.append(String.format(" %d=%.2f%%", color, 100 * getSecretColorFrequency(color)));
+            }
+        }
+        out.append(String.format("%nms per move: p50 %.0f, p90 %.0f, p99 %.0f, max %d",
+                moveMillis.quantile(0.5), moveMillis.quantile(0.9), moveMillis.quantile(0.99), moveMillis.getMax()));
+        return out.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        GameStats stats = of(Path.of(args.length > 0 ? args[0] : "games.bin"));
+        System.out.println(stats);
+        System.out.printf("%.0f games/s%n", stats.getGames() * 1e9 / Math.max(System.nanoTime() - start, 1));
+    }
+}
@@ -0,0 +1,293 @@
+package org.example;
+
+import java.util.Arrays;
+
+// Suggests the guess with the most expected information: the Shannon entropy of the feedback
+// distribution over the codes that are still possible secrets. Once the candidates are few enough,
+// every tracked guess keeps a histogram of how they split by feedback, and retain() only takes the
+// codes it drops out of those histograms (or rebuilds from the kept ones when fewer survive).
+// Before that, hints are ranked on an evenly spread sample of the candidates.
+public class HintEngine {
+    // Largest code space hints are offered for
+    public static final int MAX_SPACE = 1 << 20;
+    // Scores computed for one histogram build or one sampled ranking, a few milliseconds of work
+    private static final long BUDGET = 1 << 22;
+    // Guesses spread over the code space that are tracked besides the candidates
+    private static final int SPREAD_GUESSES = 2048;
+    // Entropies closer than this are ties, broken by candidates first and then the lowest rank
+    private static final double TIE = 1e-9;
+
+    private final CodeSpace SPACE;
+    private final int PEGS;
+    // Scoring.slot of every packed feedback as a lookup table, and the number of slots
+    private final int[] SLOT;
+    private final int SLOTS;
+
+    // Remaining candidates in ascending rank order, ranks and codes side by side
+    private final int[] ranks;
+    private final int[] codes;
+    private int count;
+    // Scratch for retain: feedbacks of a scoreAll call and the codes dropped by the last guess
+    private final int[] feedbacks;
+    private final int[] dropped;
+
+    // Tracked guesses with SLOTS counts each and the sum of c * log2(c) over their counts,
+    // null until the candidates fit the budget
+    private int[] guessRanks;
+    private int[] histograms;
+    private double[] sums;
+    // c * log2(c) for every count up to the candidates at the last build
+    private double[] xLogX;
+
+    // A suggested guess and the information it is expected to give, in bits
+    public static class Hint {
+        public int code;
+        public double bits;
+
+        public Hint(int code, double bits) {
+            this.code = code;
+            this.bits = bits;
+        }
+    }
+
+    public HintEngine(CodeSpace space) {
+        if (space.getSize() > MAX_SPACE) {
+            throw new IllegalArgumentException("Code space too large for hints: " + space.getSize() + " codes");
+        }
+        this.SPACE = space;
+        this.PEGS = space.getPegs();
+        this.SLOT = new int[Scoring.feedback(PEGS, 0) + 1];
+        for (int blacks = 0; blacks <= PEGS; blacks++) {
+            for (int whites = 0; blacks + whites <= PEGS; whites++) {
+                int feedback = Scoring.feedback(blacks, whites);
+                SLOT[feedback] = Scoring.slot(feedback, PEGS);
+            }
+        }
+        this.SLOTS = Scoring.slots(PEGS);
+
+        this.count = space.getSize();
+        this.ranks = new int[count];
+        this.codes = new int[count];
+        for (int rank = 0; rank < count; rank++) {
+            ranks[rank] = rank;
+            codes[rank] = space.code(rank);
+        }
+        this.feedbacks = new int[count];
+        this.dropped = new int[count];
+    }
+
+    public static boolean supports(int colors, int pegs) {
+        return Scoring.fits(colors, pegs) && Math.pow(colors, pegs) <= MAX_SPACE;
+    }
+
+    // Keeps only the candidates consistent with the feedback of a packed guess, returns how many are left
+    public int retain(int guess, int feedback) {
+        Scoring.scoreAll(guess, codes, count, PEGS, feedbacks);
+        int kept = 0, removed = 0;
+        for (int i = 0; i < count; i++) {
+            if (feedbacks[i] == feedback) {
+                ranks[kept] = ranks[i];
+                codes[kept++] = codes[i];
+            } else {
+                dropped[removed++] = codes[i];
+            }
+        }
+        count = kept;
+
+        if (histograms != null) {
+            if (kept < removed) {
+                build();
+            } else {
+                forget(removed);
+            }
+        }
+        return count;
+    }
+
+    // Best guess for the remaining candidates
+    public Hint hint() {
+        if (count == 0) {
+            throw new IllegalStateException("No code is consistent with the feedback");
+        }
+        if (count == 1) {
+            return new Hint(codes[0], 0);
+        }
+        // The opening only needs one guess per color pattern, histograms start with the first feedback
+        long tracked = Math.min(SPACE.getSize(), (long) SPREAD_GUESSES + count);
+        if (histograms == null && count < SPACE.getSize() && count * tracked <= BUDGET) {
+            build();
+        }
+        return histograms != null ? bestTracked() : bestSampled();
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public CodeSpace getSpace() {
+        return SPACE;
+    }
+
+    // Guesses worth tracking: codes spread over the whole space, which can split the candidates
+    // better than any of them, together with every candidate. Ascending and without duplicates.
+    private int[] trackedGuesses() {
+        int size = SPACE.getSize();
+        if (size <= SPREAD_GUESSES) {
+            int[] all = new int[size];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        int[] merged = new int[SPREAD_GUESSES + count];
+        int n = 0, c = 0;
+        for (int i = 0; i < SPREAD_GUESSES; i++) {
+            int rank = (int) ((long) i * size / SPREAD_GUESSES);
+            while (c < count && ranks[c] < rank) {
+                merged[n++] = ranks[c++];
+            }
+            if (c < count && ranks[c] == rank) {
+                c++;
+            }
+            merged[n++] = rank;
+        }
+        while (c < count) {
+            merged[n++] = ranks[c++];
+        }
+        return Arrays.copyOf(merged, n);
+    }
+
+    private void build() {
+        guessRanks = trackedGuesses();
+        histograms = new int[guessRanks.length * SLOTS];
+        sums = new double[guessRanks.length];
+        xLogX = new double[count + 1];
+        for (int c = 2; c <= count; c++) {
+            xLogX[c] = c * Math.log(c) / Math.log(2);
+        }
+        for (int g = 0; g < guessRanks.length; g++) {
+            Scoring.scoreAll(SPACE.code(guessRanks[g]), codes, count, PEGS, feedbacks);
+            int base = g * SLOTS;
+            for (int i = 0; i < count; i++) {
+                histograms[base + SLOT[feedbacks[i]]]++;
+            }
+            double sum = 0;
+            for (int s = base; s < base + SLOTS; s++) {
+                sum += xLogX[histograms[s]];
+            }
+            sums[g] = sum;
+        }
+    }
+
+    // Takes the dropped candidates out of every tracked histogram
+    private void forget(int removed) {
+        for (int g = 0; g < guessRanks.length; g++) {
+            Scoring.scoreAll(SPACE.code(guessRanks[g]), dropped, removed, PEGS, feedbacks);
+            int base = g * SLOTS;
+            double sum = sums[g];
+            for (int i = 0; i < removed; i++) {
+                int c = histograms[base + SLOT[feedbacks[i]]]--;
+                sum -= xLogX[c] - xLogX[c - 1];
+            }
+            sums[g] = sum;
+        }
+    }
+
+    // Entropy is log2(n) - sum / n, so the smallest sum wins
+    private Hint bestTracked() {
+        int best = -1;
+        boolean bestCandidate = false;
+        for (int g = 0; g < guessRanks.length; g++) {
+            if (best < 0 || sums[g] < sums[best] - TIE) {
+                best = g;
+                bestCandidate = isCandidate(guessRanks[g]);
+            } else if (!bestCandidate && sums[g] < sums[best] + TIE && isCandidate(guessRanks[g])) {
+                best = g;
+                bestCandidate = true;
+            }
+        }
+        return new Hint(SPACE.code(guessRanks[best]), log2(count) - sums[best] / count);
+    }
+
+    // Ranks guesses on candidates picked at even steps, as many as the budget allows. With every code
+    // still possible, codes that only differ by a permutation of pegs or colors split the candidates
+    // the same way, so one code per color pattern is enough.
+    private Hint bestSampled() {
+        int[] guesses = count == SPACE.getSize() ? patternCodes() : trackedCodes();
+        int samples = (int) Math.max(1, Math.min(count, BUDGET / guesses.length));
+        int[] secrets = new int[samples];
+        for (int i = 0; i < samples; i++) {
+            secrets[i] = codes[(int) ((long) i * count / samples)];
+        }
+
+        int[] histogram = new int[SLOTS];
+        int best = -1;
+        double bestBits = 0;
+        boolean bestCandidate = false;
+        for (int guess : guesses) {
+            Arrays.fill(histogram, 0);
+            Scoring.scoreAll(guess, secrets, samples, PEGS, feedbacks);
+            for (int i = 0; i < samples; i++) {
+                histogram[SLOT[feedbacks[i]]]++;
+            }
+            double sum = 0;
+            for (int c : histogram) {
+                if (c > 1) {
+                    sum += c * log2(c);
+                }
+            }
+            double bits = log2(samples) - sum / samples;
+            boolean candidate = isCandidate(SPACE.rank(guess));
+            if (best < 0 || bits > bestBits + TIE || (bits > bestBits - TIE && candidate && !bestCandidate)) {
+                best = guess;
+                bestBits = bits;
+                bestCandidate = candidate;
+            }
+        }
+        return new Hint(best, bestBits);
+    }
+
+    private int[] trackedCodes() {
+        int[] tracked = trackedGuesses();
+        // Keep the guesses to the spread codes plus as many candidates, evenly picked
+        if (tracked.length > 2 * SPREAD_GUESSES) {
+            int[] picked = new int[2 * SPREAD_GUESSES];
+            for (int i = 0; i < picked.length; i++) {
+                picked[i] = tracked[(int) ((long) i * tracked.length / picked.length)];
+            }
+            tracked = picked;
+        }
+        for (int i = 0; i < tracked.length; i++) {
+            tracked[i] = SPACE.code(tracked[i]);
+        }
+        return tracked;
+    }
+
+    // One code per way of splitting the pegs into colors: color 0 on the most pegs, then color 1...
+    private int[] patternCodes() {
+        int[] out = new int[SPACE.getSize()];
+        int n = patterns(new int[PEGS], 0, 0, PEGS, out, 0);
+        return Arrays.copyOf(out, n);
+    }
+
+    private int patterns(int[] indices, int filled, int color, int maxRun, int[] out, int n) {
+        if (filled == PEGS) {
+            out[n++] = Scoring.encode(indices);
+            return n;
+        }
+        if (color == SPACE.getColors()) {
+            return n;
+        }
+        for (int run = Math.min(maxRun, PEGS - filled); run >= 1; run--) {
+            Arrays.fill(indices, filled, filled + run, color);
+            n = patterns(indices, filled + run, color + 1, run, out, n);
+        }
+        return n;
+    }
+
+    private boolean isCandidate(int rank) {
+        return Arrays.binarySearch(ranks, 0, count, rank) >= 0;
+    }
+
+    private static double log2(double x) {
+        return Math.log(x) / Math.log(2);
+    }
+}
@@ -0,0 +1,166 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Codebreaker using Knuth's minimax rule: play the code whose worst feedback partition of the
+// remaining candidates is smallest, preferring candidates and then the lowest rank on ties.
+// Guesses are packed codes and feedback is packed as in Scoring (see MasterMindLogic.Result.packed).
+public class KnuthSolver implements Strategy {
+    // Guesses evaluated per fork-join leaf
+    private static final int LEAF_GUESSES = 32;
+
+    private final CodeSpace SPACE;
+    private final FeedbackMatrix MATRIX;
+    private final ForkJoinPool POOL;
+    // Cached opening move, shared by every game played with this solver
+    private volatile int firstGuess = -1;
+    // Optional precomputed first moves, consulted before searching when the history is known
+    private volatile OpeningBook openingBook;
+
+    public KnuthSolver(CodeSpace space) {
+        this(space, null, ForkJoinPool.commonPool());
+    }
+
+    public KnuthSolver(CodeSpace space, FeedbackMatrix matrix) {
+        this(space, matrix, ForkJoinPool.commonPool());
+    }
+
+    // With a null pool the search runs on the calling thread, for callers that already play games in parallel
+    public KnuthSolver(CodeSpace space, FeedbackMatrix matrix, ForkJoinPool pool) {
+        if (matrix != null && !matrix.getSpace().sameSize(space)) {
+            throw new IllegalArgumentException("Feedback matrix doesn't match the code space");
+        }
+        this.SPACE = space;
+        this.MATRIX = matrix;
+        this.POOL = pool;
+    }
+
+    // Next guess given the guesses played so far and the feedback each one received
+    public int nextGuess(int[] guesses, int[] feedbacks) {
+        if (guesses.length != feedbacks.length) {
+            throw new IllegalArgumentException("Every guess needs its feedback");
+        }
+        OpeningBook book = openingBook;
+        if (book != null) {
+            int guess = book.nextGuess(SPACE, guesses, feedbacks);
+            if (guess >= 0) {
+                return guess;
+            }
+        }
+        CandidateSet candidates = new CandidateSet(SPACE);
+        for (int i = 0; i < guesses.length; i++) {
+            candidates.retain(guesses[i], feedbacks[i]);
+        }
+        return nextGuess(candidates);
+    }
+
+    @Override
+    public int nextGuess(Game game) {
+        OpeningBook book = openingBook;
+        if (book != null && game.getSpace().sameSize(SPACE)) {
+            int guess = book.nextGuess(game);
+            if (guess >= 0) {
+                return guess;
+            }
+        }
+        return nextGuess(game.getCandidates());
+    }
+
+    // Answers the book's plies by lookup, null turns it off again
+    public void setOpeningBook(OpeningBook book) {
+        this.openingBook = book;
+    }
+
+    // Next guess for the remaining candidates, which callers can keep narrowing between turns
+    public int nextGuess(CandidateSet candidates) {
+        if (!candidates.getSpace().sameSize(SPACE)) {
+            throw new IllegalArgumentException("Candidates don't belong to this code space");
+        }
+        int count = candidates.size();
+        if (count == 0) {
+            throw new IllegalStateException("No code is consistent with the feedback");
+        }
+        if (count <= 2) {
+            return SPACE.code(candidates.first());
+        }
+        // With every code still possible this is the opening move, which only depends on the code space
+        boolean opening = count == SPACE.getSize();
+        if (opening && firstGuess >= 0) {
+            return firstGuess;
+        }
+
+        int[] ranks = new int[count];
+        candidates.toRanks(ranks);
+        int[] codes = new int[count];
+        for (int i = 0; i < count; i++) {
+            codes[i] = SPACE.code(ranks[i]);
+        }
+        MinimaxTask search = new MinimaxTask(ranks, codes, candidates, 0, SPACE.getSize());
+        long best = POOL != null ? POOL.invoke(search) : search.evaluate();
+        int guess = SPACE.code((int) best);
+        if (opening) {
+            firstGuess = guess;
+        }
+        return guess;
+    }
+
+    // Finds the best guess in [from, to) and returns it as (worst partition, non-candidate, rank)
+    // packed into a long, so the smallest value is the best move
+    private class MinimaxTask extends RecursiveTask<Long> {
+        private final int[] ranks;
+        private final int[] codes;
+        private final CandidateSet candidates;
+        private final int from, to;
+
+        MinimaxTask(int[] ranks, int[] codes, CandidateSet candidates, int from, int to) {
+            this.ranks = ranks;
+            this.codes = codes;
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= LEAF_GUESSES) {
+                return evaluate();
+            }
+            int mid = (from + to) >>> 1;
+            MinimaxTask left = new MinimaxTask(ranks, codes, candidates, from, mid);
+            left.fork();
+            long right = new MinimaxTask(ranks, codes, candidates, mid, to).compute();
+            return Math.min(left.join(), right);
+        }
+
+        private long evaluate() {
+            int count = ranks.length;
+            int pegs = SPACE.getPegs();
+            int[] partitions = new int[Scoring.feedback(pegs, 0) + 1];
+            long best = Long.MAX_VALUE;
+            for (int guess = from; guess < to; guess++) {
+                int guessCode = SPACE.code(guess);
+                Arrays.fill(partitions, 0);
+                int worst = 0;
+                // Stop as soon as this guess can no longer beat the best one of this leaf, which
+                // prunes most guesses and is why this loop scores pair by pair instead of in batches
+                int limit = (int) (best >>> 33);
+                for (int i = 0; i < count && worst <= limit; i++) {
+                    int feedback = MATRIX != null
+                            ? MATRIX.feedback(guess, ranks[i])
+                            : Scoring.score(guessCode, codes[i], pegs);
+                    int size = ++partitions[feedback];
+                    if (size > worst) {
+                        worst = size;
+                    }
+                }
+                long key = (long) worst << 33 | (candidates.contains(guess) ? 0L : 1L << 32) | guess;
+                if (key < best) {
+                    best = key;
+                }
+            }
+            return best;
+        }
+    }
+}
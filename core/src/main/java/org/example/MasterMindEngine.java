@@ -0,0 +1,256 @@
+package org.example;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+// One game against a known secret, on palette indices only, so it needs nothing outside java.base.
+// The Swing game wraps it in MasterMindLogic, which maps colors to indices at the UI edge.
+// Scoring picks the fastest form the game size allows: a FeedbackMatrix lookup once one is set,
+// then codes packed in an int (up to 8 pegs) or a long (up to 16), then index arrays (up to 31).
+public class MasterMindEngine {
+    private final int COLORS;
+    private final int[] SECRET;
+    private final int SECRET_CODE;
+    private final boolean PACKED;
+    private final long SECRET_LONG_CODE;
+    private final boolean LONG_PACKED;
+    // Optional precomputed feedback table, scoring becomes a lookup once it is set
+    private FeedbackMatrix feedbackMatrix;
+    private int secretRank;
+    // Optional entropy hints. Checked guesses are only queued, and the hint engine is narrowed with
+    // them when the next hint is asked for, so checking a guess (on the EDT in the game) stays cheap.
+    private HintEngine hints;
+    private int[] pendingGuesses, pendingFeedbacks;
+    private int pending;
+    // Optional journal the finished game is appended to, with the guesses, feedbacks and times since START
+    private GameJournal journal;
+    private final long START = System.currentTimeMillis();
+    private long[] playedGuesses;
+    private int[] playedFeedbacks, playedTimes;
+    private int played;
+    private boolean finished;
+
+    public MasterMindEngine(int colors, int[] secret) {
+        if (colors < 1) {
+            throw new IllegalArgumentException("A game needs at least one color");
+        }
+        if (secret.length < 1 || secret.length > Scoring.MAX_ARRAY_PEGS) {
+            throw new IllegalArgumentException("Secrets have 1 to " + Scoring.MAX_ARRAY_PEGS + " pegs");
+        }
+        this.COLORS = colors;
+        this.SECRET = checkIndices(secret.clone());
+        this.PACKED = Scoring.fits(colors, SECRET.length);
+        this.SECRET_CODE = PACKED ? Scoring.encode(SECRET) : 0;
+        this.LONG_PACKED = !PACKED && Scoring.fitsLong(colors, SECRET.length);
+        this.SECRET_LONG_CODE = LONG_PACKED ? Scoring.encodeLong(SECRET) : 0;
+    }
+
+    // Scores a guess, queues it for the hints and records it for the journal, returns the packed feedback
+    public int checkGuess(int[] guess) {
+        int feedback = score(guess);
+        recordGuess(guess, feedback);
+        return feedback;
+    }
+
+    // Takes a guess already scored by score(int[]) as checked: queues it for the hints and records it for the journal
+    public void recordGuess(int[] guess, int feedback) {
+        if (hints != null) {
+            if (pending == pendingGuesses.length) {
+                pendingGuesses = Arrays.copyOf(pendingGuesses, pending * 2);
+                pendingFeedbacks = Arrays.copyOf(pendingFeedbacks, pending * 2);
+            }
+            pendingGuesses[pending] = Scoring.encode(guess);
+            pendingFeedbacks[pending] = feedback;
+            pending++;
+        }
+        if (journal != null) {
+            record(guess, feedback);
+        }
+    }
+
+    // Packed feedback of a guess given as palette indices, without allocating when the game size packs
+    public int score(int[] guess) {
+        if (guess.length != SECRET.length) {
+            throw new IllegalArgumentException("Guess has " + guess.length + " pegs, the secret " + SECRET.length);
+        }
+        if (feedbackMatrix != null) {
+            int rank = 0;
+            for (int i = SECRET.length - 1; i >= 0; i--) {
+                rank = rank * COLORS + checkIndex(guess[i]);
+            }
+            return feedbackMatrix.feedback(rank, secretRank);
+        }
+        if (PACKED) {
+            int code = 0;
+            for (int i = 0; i < SECRET.length; i++) {
+                code |= checkIndex(guess[i]) << (i << 2);
+            }
+            return Scoring.score(code, SECRET_CODE, SECRET.length);
+        }
+        if (LONG_PACKED) {
+            long code = 0;
+            for (int i = 0; i < SECRET.length; i++) {
+                code |= (long) checkIndex(guess[i]) << (i << 2);
+            }
+            return Scoring.scoreLong(code, SECRET_LONG_CODE, SECRET.length);
+        }
+        return Scoring.score(checkIndices(guess), SECRET);
+    }
+
+    // Scores an already packed guess code, only available when the game size fits Scoring.
+    // The code is checked like an index guess, so a bad one never reads a wrong matrix cell.
+    public int score(int guessCode) {
+        if (!PACKED) {
+            throw new IllegalStateException("Game size doesn't fit the packed code format");
+        }
+        if (!Scoring.isCode(guessCode, COLORS, SECRET.length)) {
+            throw new IllegalArgumentException("Not a " + COLORS + "x" + SECRET.length + " code: 0x"
+                    + Integer.toHexString(guessCode));
+        }
+        if (feedbackMatrix != null) {
+            return feedbackMatrix.feedback(feedbackMatrix.getSpace().rank(guessCode), secretRank);
+        }
+        return Scoring.score(guessCode, SECRET_CODE, SECRET.length);
+    }
+
+    // Scores a guess packed in a long, available for games of up to 16 pegs and 16 colors
+    public int score(long guessCode) {
+        if (PACKED) {
+            return score((int) guessCode);
+        }
+        if (!LONG_PACKED) {
+            throw new IllegalStateException("Game size doesn't fit the packed long code format");
+        }
+        return Scoring.scoreLong(guessCode, SECRET_LONG_CODE, SECRET.length);
+    }
+
+    // Switches scoring to table lookups, the matrix must match the number of colors and secret length
+    public void setFeedbackMatrix(FeedbackMatrix matrix) {
+        if (matrix != null) {
+            CodeSpace space = matrix.getSpace();
+            if (space.getColors() != COLORS || space.getPegs() != SECRET.length) {
+                throw new IllegalArgumentException("Feedback matrix doesn't match this game size");
+            }
+            secretRank = space.rank(SECRET_CODE);
+        }
+        this.feedbackMatrix = matrix;
+    }
+
+    // Turns on hints for the guesses checked from now on. The engine must match the number of colors and
+    // secret length and still hold its whole code space, since it is only ever narrowed by this game.
+    public void setHintEngine(HintEngine engine) {
+        if (engine != null) {
+            CodeSpace space = engine.getSpace();
+            if (space.getColors() != COLORS || space.getPegs() != SECRET.length) {
+                throw new IllegalArgumentException("Hint engine doesn't match this game size");
+            }
+            if (engine.size() != space.getSize()) {
+                throw new IllegalArgumentException("Hint engine has already been narrowed to " + engine.size() + " codes");
+            }
+            if (pendingGuesses == null) {
+                pendingGuesses = new int[16];
+                pendingFeedbacks = new int[16];
+            }
+        }
+        this.hints = engine;
+        this.pending = 0;
+    }
+
+    // Records this game from now on and appends it to the journal on finish(). Needs a size that packs in a long.
+    public void setJournal(GameJournal journal) {
+        if (journal != null && !Scoring.fitsLong(COLORS, SECRET.length)) {
+            throw new IllegalArgumentException("Game size doesn't fit the journal's packed codes");
+        }
+        if (journal != null && playedGuesses == null) {
+            playedGuesses = new long[16];
+            playedFeedbacks = new int[16];
+            playedTimes = new int[16];
+        }
+        this.journal = journal;
+    }
+
+    // Appends the game to the journal once it is over, later calls do nothing
+    public void finish() throws IOException {
+        if (journal == null || finished) {
+            return;
+        }
+        finished = true;
+        journal.append(new GameRecord(COLORS, SECRET.length, Scoring.encodeLong(SECRET),
+                Arrays.copyOf(playedGuesses, played), Arrays.copyOf(playedFeedbacks, played), START,
+                Arrays.copyOf(playedTimes, played)));
+    }
+
+    private void record(int[] guess, int feedback) {
+        if (played == playedGuesses.length) {
+            playedGuesses = Arrays.copyOf(playedGuesses, played * 2);
+            playedFeedbacks = Arrays.copyOf(playedFeedbacks, played * 2);
+            playedTimes = Arrays.copyOf(playedTimes, played * 2);
+        }
+        playedGuesses[played] = Scoring.encodeLong(guess);
+        playedFeedbacks[played] = feedback;
+        // Clamped so a wall clock stepping back never makes a guess earlier than the previous one
+        int time = (int) Math.min(Integer.MAX_VALUE, System.currentTimeMillis() - START);
+        playedTimes[played] = Math.max(time, played == 0 ? 0 : playedTimes[played - 1]);
+        played++;
+    }
+
+    public boolean hasHints() {
+        return hints != null;
+    }
+
+    // Most informative next guess given the guesses checked so far, null without a hint engine
+    public HintEngine.Hint hint() {
+        if (hints == null) {
+            return null;
+        }
+        for (int i = 0; i < pending; i++) {
+            hints.retain(pendingGuesses[i], pendingFeedbacks[i]);
+        }
+        pending = 0;
+        return hints.hint();
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= COLORS) {
+            throw new IllegalArgumentException("Palette index out of range: " + index);
+        }
+        return index;
+    }
+
+    private int[] checkIndices(int[] code) {
+        for (int index : code) {
+            checkIndex(index);
+        }
+        return code;
+    }
+
+    public int[] getSecret() {
+        return SECRET.clone();
+    }
+
+    public int getSecretLength() {
+        return SECRET.length;
+    }
+
+    public int getColors() {
+        return COLORS;
+    }
+
+    // Secret packed in a long, like score(long) only for games of up to 16 pegs and 16 colors
+    public long getSecretLongCode() {
+        if (PACKED) {
+            return Integer.toUnsignedLong(SECRET_CODE);
+        }
+        if (!LONG_PACKED) {
+            throw new IllegalStateException("Game size doesn't fit the packed long code format");
+        }
+        return SECRET_LONG_CODE;
+    }
+
+    public int getSecretCode() {
+        if (!PACKED) {
+            throw new IllegalStateException("Game size doesn't fit the packed code format");
+        }
+        return SECRET_CODE;
+    }
+}
@@ -0,0 +1,271 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// KnuthSolver's moves for the first plies of a game, precomputed for a few game sizes and memory-mapped,
+// so the opening moves are a walk down a tree instead of a minimax search.
+// Build it offline: java -cp master-mind-core.jar org.example.OpeningBook book.bin [plies] [colors x pegs]...
+public final class OpeningBook {
+    // File layout: magic, version, book count, then per book colors, pegs, plies, node count and the
+    // offset of its nodes. A node is its guess followed by one child node index per feedback slot
+    // (see Scoring.slot), 0 where the feedback ends the game, can't happen or is past the last ply.
+    private static final int MAGIC = 0x4D4D4F42;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 12;
+    private static final int ENTRY_BYTES = 20;
+
+    private final MappedByteBuffer DATA;
+    private final int[] COLORS, PEGS, PLIES, OFFSETS;
+
+    private OpeningBook(MappedByteBuffer data, int[] colors, int[] pegs, int[] plies, int[] offsets) {
+        this.DATA = data;
+        this.COLORS = colors;
+        this.PEGS = pegs;
+        this.PLIES = plies;
+        this.OFFSETS = offsets;
+    }
+
+    public static OpeningBook open(Path file) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (data.limit() < HEADER_BYTES || data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+            throw new IOException("Not an opening book: " + file);
+        }
+        int books = data.getInt(8);
+        if (books < 0 || HEADER_BYTES + (long) books * ENTRY_BYTES > data.limit()) {
+            throw new IOException("Truncated opening book: " + file);
+        }
+        int[] colors = new int[books], pegs = new int[books], plies = new int[books], offsets = new int[books];
+        for (int i = 0; i < books; i++) {
+            int entry = HEADER_BYTES + i * ENTRY_BYTES;
+            colors[i] = data.getInt(entry);
+            pegs[i] = data.getInt(entry + 4);
+            plies[i] = data.getInt(entry + 8);
+            int nodes = data.getInt(entry + 12);
+            offsets[i] = data.getInt(entry + 16);
+            if (colors[i] < 1 || colors[i] > Scoring.MAX_COLORS || pegs[i] < 1 || pegs[i] > Scoring.MAX_PEGS
+                    || plies[i] < 1) {
+                throw new IOException("Corrupt opening book: " + file + " has a book of " + colors[i] + " colors, "
+                        + pegs[i] + " pegs and " + plies[i] + " plies");
+            }
+            long end = offsets[i] + (long) nodes * nodeBytes(pegs[i]);
+            if (offsets[i] < 0 || nodes < 1 || end > data.limit()) {
+                throw new IOException("Truncated opening book: " + file);
+            }
+            checkTree(file, data, colors[i], pegs[i], plies[i], nodes, offsets[i]);
+        }
+        return new OpeningBook(data, colors, pegs, plies, offsets);
+    }
+
+    // Lookups trust what is checked here: every guess is a code of the game size, and every child
+    // index points further down the node array (so the nodes form a tree, as write lays them out)
+    // within the plies, with no child for the winning feedback
+    private static void checkTree(Path file, ByteBuffer data, int colors, int pegs, int plies, int nodes, int offset)
+            throws IOException {
+        int slots = Scoring.slots(pegs);
+        int win = Scoring.slot(Scoring.feedback(pegs, 0), pegs);
+        // Ply of every node, 0 until a parent reaches it
+        int[] ply = new int[nodes];
+        ply[0] = 1;
+        for (int node = 0; node < nodes; node++) {
+            int position = offset + node * nodeBytes(pegs);
+            int guess = data.getInt(position);
+            if (ply[node] == 0 || !Scoring.isCode(guess, colors, pegs)) {
+                throw new IOException("Corrupt opening book: " + file + ", node " + node + " of " + colors + "x" + pegs);
+            }
+            for (int slot = 0; slot < slots; slot++) {
+                int child = data.getInt(position + 4 + 4 * slot);
+                if (child == 0) {
+                    continue;
+                }
+                if (child <= node || child >= nodes || ply[child] != 0 || ply[node] >= plies || slot == win) {
+                    throw new IOException("Corrupt opening book: " + file + ", node " + node + " of " + colors + "x"
+                            + pegs + " has child " + child + " for feedback slot " + slot);
+                }
+                ply[child] = ply[node] + 1;
+            }
+        }
+    }
+
+    // Book move after the given guesses and feedbacks, or -1 when the game has left the book
+    public int nextGuess(CodeSpace space, int[] guesses, int[] feedbacks) {
+        int book = find(space);
+        if (book < 0 || guesses.length >= PLIES[book]) {
+            return -1;
+        }
+        int node = 0;
+        for (int i = 0; i < guesses.length; i++) {
+            if (guess(book, node) != guesses[i]) {
+                return -1;
+            }
+            node = child(book, node, feedbacks[i]);
+            if (node == 0) {
+                return -1;
+            }
+        }
+        return guess(book, node);
+    }
+
+    public int nextGuess(Game game) {
+        int played = game.getRound();
+        int[] guesses = new int[played];
+        int[] feedbacks = new int[played];
+        for (int i = 0; i < played; i++) {
+            guesses[i] = game.getGuess(i);
+            feedbacks[i] = game.getFeedback(i);
+        }
+        return nextGuess(game.getSpace(), guesses, feedbacks);
+    }
+
+    public boolean covers(CodeSpace space) {
+        return find(space) >= 0;
+    }
+
+    // Plies stored for a game size, 0 when the book doesn't have it
+    public int getPlies(CodeSpace space) {
+        int book = find(space);
+        return book < 0 ? 0 : PLIES[book];
+    }
+
+    private int find(CodeSpace space) {
+        for (int i = 0; i < COLORS.length; i++) {
+            if (COLORS[i] == space.getColors() && PEGS[i] == space.getPegs()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int guess(int book, int node) {
+        return DATA.getInt(OFFSETS[book] + node * nodeBytes(PEGS[book]));
+    }
+
+    // Child for a feedback, 0 when there is none or the feedback isn't possible with these pegs
+    private int child(int book, int node, int feedback) {
+        int pegs = PEGS[book];
+        if (feedback < 0 || Scoring.blacks(feedback) + Scoring.whites(feedback) > pegs) {
+            return 0;
+        }
+        return DATA.getInt(OFFSETS[book] + node * nodeBytes(pegs) + 4 + 4 * Scoring.slot(feedback, pegs));
+    }
+
+    private static int nodeBytes(int pegs) {
+        return 4 + 4 * Scoring.slots(pegs);
+    }
+
+    // Computes the first plies of every game size with a KnuthSolver and writes them to file
+    public static void write(Path file, int plies, List<CodeSpace> spaces) throws IOException {
+        if (plies < 1) {
+            throw new IllegalArgumentException("A book needs at least one ply");
+        }
+        List<List<int[]>> trees = new ArrayList<>();
+        long length = HEADER_BYTES + (long) spaces.size() * ENTRY_BYTES;
+        for (CodeSpace space : spaces) {
+            List<int[]> nodes = new ArrayList<>();
+            addNode(new KnuthSolver(space), new CandidateSet(space), 1, plies, nodes);
+            trees.add(nodes);
+            length += (long) nodes.size() * nodeBytes(space.getPegs());
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Opening book too large: " + length + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) length).putInt(MAGIC).putInt(VERSION).putInt(spaces.size());
+        int offset = HEADER_BYTES + spaces.size() * ENTRY_BYTES;
+        for (int i = 0; i < spaces.size(); i++) {
+            CodeSpace space = spaces.get(i);
+            buffer.putInt(space.getColors()).putInt(space.getPegs()).putInt(plies)
+                    .putInt(trees.get(i).size()).putInt(offset);
+            offset += trees.get(i).size() * nodeBytes(space.getPegs());
+        }
+        for (List<int[]> nodes : trees) {
+            for (int[] node : nodes) {
+                for (int value : node) {
+                    buffer.putInt(value);
+                }
+            }
+        }
+        buffer.flip();
+
+        // Same temporary file and move as FeedbackMatrix, so readers never map a half written book
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // Adds the node for these candidates and, before the last ply, one child per feedback its guess can get
+    private static int addNode(KnuthSolver solver, CandidateSet candidates, int ply, int plies, List<int[]> nodes) {
+        CodeSpace space = candidates.getSpace();
+        int pegs = space.getPegs();
+        int[] node = new int[1 + Scoring.slots(pegs)];
+        int index = nodes.size();
+        nodes.add(node);
+
+        int guess = solver.nextGuess(candidates);
+        node[0] = guess;
+        if (ply < plies) {
+            boolean[] seen = new boolean[Scoring.slots(pegs)];
+            int[] feedbacks = new int[seen.length];
+            int[] found = {0};
+            candidates.forEach(rank -> {
+                int feedback = Scoring.score(guess, space.code(rank), pegs);
+                int slot = Scoring.slot(feedback, pegs);
+                if (!seen[slot] && Scoring.blacks(feedback) != pegs) {
+                    seen[slot] = true;
+                    feedbacks[found[0]++] = feedback;
+                }
+            });
+            for (int i = 0; i < found[0]; i++) {
+                CandidateSet next = candidates.copy();
+                next.retain(guess, feedbacks[i]);
+                node[1 + Scoring.slot(feedbacks[i], pegs)] = addNode(solver, next, ply + 1, plies, nodes);
+            }
+        }
+        return index;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "opening-book.bin");
+        int plies = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        List<CodeSpace> spaces = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            String[] size = args[i].split("x");
+            spaces.add(new CodeSpace(Integer.parseInt(size[0]), Integer.parseInt(size[1])));
+        }
+        if (spaces.isEmpty()) {
+            spaces.add(new CodeSpace(6, 4));
+        }
+
+        long start = System.nanoTime();
+        write(file, plies, spaces);
+        System.out.printf("%s: %d plies of %d game sizes in %d bytes, %.1f s%n", file, plies, spaces.size(),
+                Files.size(file), (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example;
+
+// Quantiles of a stream of non-negative longs in fixed memory: values are counted in logarithmic
+// buckets, so any quantile is within ACCURACY of the true value (relative), and two sketches merge by
+// adding their counts, whatever the order or the split of the stream.
+public class QuantileSketch {
+    public static final double ACCURACY = 0.01;
+    private static final double GAMMA = (1 + ACCURACY) / (1 - ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    // Bucket i holds the values in (GAMMA^(i-1), GAMMA^i], enough buckets for every positive long
+    private static final int BUCKETS = index(Long.MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long zeros;
+    private long count;
+    private long max;
+
+    private static int index(long value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    // Negative values count as 0
+    public void add(long value) {
+        if (value <= 0) {
+            zeros++;
+        } else {
+            counts[index(value)]++;
+            max = Math.max(max, value);
+        }
+        count++;
+    }
+
+    public QuantileSketch merge(QuantileSketch other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        zeros += other.zeros;
+        count += other.count;
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    // Value at quantile q (0.5 for the median), 0 when the sketch is empty
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be in [0, 1]: " + q);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = zeros;
+        if (seen >= rank) {
+            return 0;
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // The point of the bucket at most ACCURACY away from both of its ends
+                return Math.min(2 * Math.pow(GAMMA, i) / (GAMMA + 1), max);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+}
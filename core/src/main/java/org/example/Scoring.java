@@ -0,0 +1,227 @@
+package org.example;
+
+// Allocation-free scoring kernel working on palette indices instead of Color objects.
+// A packed code stores one palette index per peg in a 4-bit nibble (peg 0 in the lowest bits),
+// so up to 8 pegs and 16 colors fit in an int, and up to 16 pegs in a long (the *Long methods).
+// Feedback is packed as (blacks << 5) | whites.
+public final class Scoring {
+    public static final int MAX_PEGS = 8;
+    public static final int MAX_LONG_PEGS = 16;
+    public static final int MAX_COLORS = 16;
+    // Longest code score(int[], int[]) takes: feedback keeps whites in 5 bits
+    public static final int MAX_ARRAY_PEGS = 31;
+
+    // scoreAll uses VectorScoring when jdk.incubator.vector is in the boot layer (--add-modules),
+    // unless it is turned off with -Dmastermind.vector=false
+    public static final boolean VECTOR_ENABLED =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+                    && !"false".equals(System.getProperty("mastermind.vector"));
+    // Below this many secrets the scalar loop is as fast as setting up the vectors
+    private static final int VECTOR_MIN_COUNT = 32;
+
+    private static final long NIBBLE_LOW_BITS = 0x1111111111111111L;
+    private static final long EVEN_NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+    private static final long LANE_HIGH_BITS = 0x8080808080808080L;
+    private static final long LANE_SUM = 0x0101010101010101L;
+
+    private Scoring() {
+    }
+
+    // ----- Feedback packing -----
+    public static int feedback(int blacks, int whites) {
+        return blacks << 5 | whites;
+    }
+
+    public static int blacks(int feedback) {
+        return feedback >>> 5;
+    }
+
+    public static int whites(int feedback) {
+        return feedback & 31;
+    }
+
+    // Dense index of a feedback among the slots(pegs) pairs with blacks + whites <= pegs,
+    // for tables indexed by feedback
+    public static int slot(int feedback, int pegs) {
+        int blacks = blacks(feedback);
+        return blacks * (pegs + 1) - blacks * (blacks - 1) / 2 + whites(feedback);
+    }
+
+    public static int slots(int pegs) {
+        return (pegs + 1) * (pegs + 2) / 2;
+    }
+
+    // ----- Code packing -----
+    public static boolean fits(int colors, int pegs) {
+        return colors <= MAX_COLORS && pegs <= MAX_PEGS;
+    }
+
+    public static boolean fitsLong(int colors, int pegs) {
+        return colors <= MAX_COLORS && pegs <= MAX_LONG_PEGS;
+    }
+
+    public static int encode(int[] indices) {
+        int code = 0;
+        for (int i = 0; i < indices.length; i++) {
+            code |= indices[i] << (i << 2);
+        }
+        return code;
+    }
+
+    public static int[] decode(int code, int pegs) {
+        int[] indices = new int[pegs];
+        for (int i = 0; i < pegs; i++) {
+            indices[i] = peg(code, i);
+        }
+        return indices;
+    }
+
+    public static int peg(int code, int position) {
+        return code >>> (position << 2) & 15;
+    }
+
+    // Whether a packed code has pegs pegs of colors below colors, and nothing past its last peg
+    public static boolean isCode(int code, int colors, int pegs) {
+        for (int i = 0; i < pegs; i++) {
+            if (peg(code, i) >= colors) {
+                return false;
+            }
+        }
+        return pegs == MAX_PEGS || code >>> (pegs << 2) == 0;
+    }
+
+    public static long encodeLong(int[] indices) {
+        long code = 0;
+        for (int i = 0; i < indices.length; i++) {
+            code |= (long) indices[i] << (i << 2);
+        }
+        return code;
+    }
+
+    public static int[] decode(long code, int pegs) {
+        int[] indices = new int[pegs];
+        for (int i = 0; i < pegs; i++) {
+            indices[i] = peg(code, i);
+        }
+        return indices;
+    }
+
+    public static int peg(long code, int position) {
+        return (int) (code >>> (position << 2)) & 15;
+    }
+
+    // ----- Scoring -----
+    // Scores two packed codes of the given length and returns the packed feedback
+    public static int score(int guess, int secret, int pegs) {
+        return scoreLong(Integer.toUnsignedLong(guess), Integer.toUnsignedLong(secret), pegs);
+    }
+
+    // Same as score for codes packed in a long, up to 16 pegs
+    public static int scoreLong(long guess, long secret, int pegs) {
+        long guessCounts = 0, secretCounts = 0;
+        for (int i = 0; i < pegs; i++) {
+            guessCounts += count(guess, i);
+            secretCounts += count(secret, i);
+        }
+        return score(guess, guessCounts, secret, secretCounts, pegs);
+    }
+
+    // Scores one guess against secrets[0..count) and writes each packed feedback to out[0..count).
+    // The guess is decoded once, so this is much cheaper than count separate score calls.
+    public static void scoreAll(int guess, int[] secrets, int count, int pegs, int[] out) {
+        if (VECTOR_ENABLED && count >= VECTOR_MIN_COUNT) {
+            VectorScoring.scoreAll(guess, secrets, count, pegs, out);
+        } else {
+            scoreAllScalar(guess, secrets, count, pegs, out);
+        }
+    }
+
+    // Scalar version of scoreAll
+    public static void scoreAllScalar(int guess, int[] secrets, int count, int pegs, int[] out) {
+        long g = Integer.toUnsignedLong(guess);
+        long guessCounts = counts(g, pegs);
+        for (int n = 0; n < count; n++) {
+            long secret = Integer.toUnsignedLong(secrets[n]);
+            out[n] = score(g, guessCounts, secret, counts(secret, pegs), pegs);
+        }
+    }
+
+    // The kernel behind every packed path: scores two codes given with their counts (see counts).
+    // Int codes come in zero-extended, so their unused nibbles match like those of short long codes.
+    private static int score(long guess, long guessCounts, long secret, long secretCounts, int pegs) {
+        // A nibble of guess ^ secret is zero exactly where the colors match
+        long diff = guess ^ secret;
+        diff = (diff | diff >>> 1 | diff >>> 2 | diff >>> 3) & NIBBLE_LOW_BITS;
+        int blacks = pegs - Long.bitCount(diff);
+
+        // 16 pegs of one color overflow their nibble, but then every match is a black anyway
+        if (pegs == MAX_LONG_PEGS && (overflowed(guessCounts) || overflowed(secretCounts))) {
+            return feedback(blacks, 0);
+        }
+        // Even and odd colors go to separate words of byte lanes for the sum of minimums
+        int matches = sumOfMinimums(guessCounts & EVEN_NIBBLES, secretCounts & EVEN_NIBBLES)
+                + sumOfMinimums(guessCounts >>> 4 & EVEN_NIBBLES, secretCounts >>> 4 & EVEN_NIBBLES);
+        return feedback(blacks, matches - blacks);
+    }
+
+    // Pegs per color of a code, in one nibble per color
+    private static long counts(long code, int pegs) {
+        long counts = 0;
+        for (int i = 0; i < pegs; i++) {
+            counts += count(code, i);
+        }
+        return counts;
+    }
+
+    // One peg in the nibble of its color
+    private static long count(long code, int position) {
+        return 1L << (peg(code, position) << 2);
+    }
+
+    // The counts of 16 pegs sum to 16 over at least two nibbles, unless one color took all of them
+    // and carried out of its nibble, which leaves a single bit or nothing
+    private static boolean overflowed(long counts) {
+        return (counts & counts - 1) == 0;
+    }
+
+    // Scores codes given as palette index arrays, for sizes the packed form can't hold (up to 31 pegs)
+    public static int score(int[] guess, int[] secret) {
+        int pegs = secret.length;
+        if (pegs > MAX_ARRAY_PEGS) {
+            throw new IllegalArgumentException("At most " + MAX_ARRAY_PEGS + " pegs are supported");
+        }
+
+        int blacks = 0;
+        long open = 0; // positions that are not black
+        for (int i = 0; i < pegs; i++) {
+            if (guess[i] == secret[i]) {
+                blacks++;
+            } else {
+                open |= 1L << i;
+            }
+        }
+
+        int whites = 0;
+        long unmatched = open; // secret positions still available for a white pin
+        for (long g = open; g != 0; g &= g - 1) {
+            int color = guess[Long.numberOfTrailingZeros(g)];
+            for (long s = unmatched; s != 0; s &= s - 1) {
+                int j = Long.numberOfTrailingZeros(s);
+                if (secret[j] == color) {
+                    whites++;
+                    unmatched &= ~(1L << j);
+                    break;
+                }
+            }
+        }
+        return feedback(blacks, whites);
+    }
+
+    // Sums min(a, b) over the eight byte lanes of two count words (every lane must be below 128)
+    private static int sumOfMinimums(long a, long b) {
+        long aAtLeastB = ((a | LANE_HIGH_BITS) - b) & LANE_HIGH_BITS;
+        long mask = (aAtLeastB >>> 7) * 0xFF;
+        long min = (b & mask) | (a & ~mask);
+        return (int) ((min * LANE_SUM) >>> 56);
+    }
+}
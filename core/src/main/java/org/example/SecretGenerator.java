@@ -0,0 +1,40 @@
+package org.example;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Fills arrays with uniformly random packed secrets, in parallel and reproducibly.
+// The output is cut into fixed-size chunks and every chunk draws from its own stream split off the
+// seed, so the same seed gives the same secrets whatever the number of threads.
+public final class SecretGenerator {
+    private static final int CHUNK = 1 << 14;
+
+    private SecretGenerator() {
+    }
+
+    public static int[] generate(CodeSpace space, long seed, int count) {
+        int[] secrets = new int[count];
+        fill(space, seed, secrets);
+        return secrets;
+    }
+
+    public static void fill(CodeSpace space, long seed, int[] out) {
+        int chunks = (out.length + CHUNK - 1) / CHUNK;
+
+        // Splitting is sequential, so stream i always belongs to chunk i
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[chunks];
+        for (int i = 0; i < chunks; i++) {
+            streams[i] = root.split();
+        }
+
+        int size = space.getSize();
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            SplittableRandom random = streams[chunk];
+            int end = Math.min(out.length, (chunk + 1) * CHUNK);
+            for (int i = chunk * CHUNK; i < end; i++) {
+                out[i] = space.code(random.nextInt(size));
+            }
+        });
+    }
+}
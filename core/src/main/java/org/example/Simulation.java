@@ -0,0 +1,132 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Plays many complete headless games in parallel: batches of games on one platform thread per core.
+// Games are CPU bound, so each one runs start to end on its worker, with a strategy that searches on
+// that same thread (knuth here uses a KnuthSolver without a pool), and the worker's CandidateSet
+// scratch buffers serve all of its games.
+// Secrets come from SecretGenerator, so a run can be replayed by passing the seed it reported.
+// Usage: java -jar master-mind-core.jar [games] [knuth|first] [colors] [pegs] [rounds] [seed]
+public class Simulation {
+    // Games per task, enough to keep the queue short and small enough to balance the cores
+    private static final int BATCH_GAMES = 64;
+
+    // Plays a game to the end and returns whether the strategy won
+    public static boolean play(Game game, Strategy strategy) {
+        while (!game.isOver()) {
+            game.submit(strategy.nextGuess(game));
+        }
+        return game.isWon();
+    }
+
+    public static Report run(CodeSpace space, int rounds, Strategy strategy, int games) {
+        return run(space, rounds, strategy, games, ThreadLocalRandom.current().nextLong());
+    }
+
+    public static Report run(CodeSpace space, int rounds, Strategy strategy, int games, long seed) {
+        int[] secrets = SecretGenerator.generate(space, seed, games);
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<Future<long[]>> batches = new ArrayList<>();
+        long wins = 0, guesses = 0;
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int from = 0; from < games; from += BATCH_GAMES) {
+                int first = from, last = Math.min(games, from + BATCH_GAMES);
+                batches.add(executor.submit(() -> playBatch(space, rounds, strategy, secrets, first, last)));
+            }
+            for (Future<long[]> batch : batches) {
+                long[] result = batch.get();
+                wins += result[0];
+                guesses += result[1];
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating", e);
+        }
+        long nanos = System.nanoTime() - start;
+        return new Report(games, (int) wins, guesses, nanos, seed);
+    }
+
+    // Plays the games of secrets[from..to) and returns {wins, guesses}
+    private static long[] playBatch(CodeSpace space, int rounds, Strategy strategy, int[] secrets, int from, int to) {
+        long[] result = new long[2];
+        for (int i = from; i < to; i++) {
+            Game game = new Game(space, secrets[i], rounds);
+            if (play(game, strategy)) {
+                result[0]++;
+            }
+            result[1] += game.getRound();
+        }
+        return result;
+    }
+
+    // Outcome of a simulation run
+    public static class Report {
+        public final int games, wins;
+        public final long guesses, nanos, seed;
+
+        public Report(int games, int wins, long guesses, long nanos, long seed) {
+            this.games = games;
+            this.wins = wins;
+            this.guesses = guesses;
+            this.nanos = nanos;
+            this.seed = seed;
+        }
+
+        public double gamesPerSecond() {
+            return games * 1e9 / Math.max(nanos, 1);
+        }
+
+        public double averageGuesses() {
+            return games == 0 ? 0 : (double) guesses / games;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d games, %d won, %.3f guesses/game, %.0f games/s (seed %d)",
+                    games, wins, averageGuesses(), gamesPerSecond(), seed);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        String strategyName = args.length > 1 ? args[1] : "knuth";
+        int colors = args.length > 2 ? Integer.parseInt(args[2]) : 6;
+        int pegs = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+        int rounds = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : ThreadLocalRandom.current().nextLong();
+
+        CodeSpace space = new CodeSpace(colors, pegs);
+        Strategy strategy = switch (strategyName) {
+            case "knuth" -> knuthSolver(space, null);
+            case "first" -> Strategy.firstCandidate();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategyName);
+        };
+
+        System.out.println(run(space, rounds, strategy, games, seed));
+    }
+
+    // -Dmastermind.openingBook=book.bin (see OpeningBook.main) answers the first plies by lookup.
+    // A null pool searches on the calling thread.
+    static KnuthSolver knuthSolver(CodeSpace space, ForkJoinPool pool) throws IOException {
+        KnuthSolver solver = new KnuthSolver(space, null, pool);
+        String bookFile = System.getProperty("mastermind.openingBook");
+        if (bookFile != null) {
+            solver.setOpeningBook(OpeningBook.open(Path.of(bookFile)));
+        }
+        return solver;
+    }
+}
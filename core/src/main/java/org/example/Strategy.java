@@ -0,0 +1,12 @@
+package org.example;
+
+// Codebreaker for headless games: picks the next packed guess from the game's history
+// and its remaining candidates, which the game narrows after every feedback
+public interface Strategy {
+    int nextGuess(Game game);
+
+    // Plays the lowest-ranked code that is still possible, cheap and good for load tests
+    static Strategy firstCandidate() {
+        return game -> game.getSpace().code(game.getCandidates().first());
+    }
+}
@@ -0,0 +1,177 @@
+package org.example;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Plays a strategy against every secret of a code space and reports the exact distribution of
+// guesses. Secrets that got the same feedback so far are in the same game as far as the strategy
+// knows, so instead of one game per secret this walks the strategy's decision tree: one nextGuess
+// per distinct history, then the node's secrets are split by their feedback into child nodes that
+// run as fork-join tasks. Workers share the code space and the strategy (with its matrix, opening
+// book and cached first move); every node owns its Game. Needs a strategy that decides from the
+// history alone, as every Strategy here does.
+// Usage: java -cp master-mind-core.jar org.example.StrategyEvaluator [knuth|first] [colors] [pegs] [rounds]
+public class StrategyEvaluator {
+    // Nodes with fewer secrets are walked by the task that found them
+    private static final int LEAF_SECRETS = 16;
+
+    public static Report evaluate(CodeSpace space, int rounds, Strategy strategy) {
+        return evaluate(space, rounds, strategy, ForkJoinPool.commonPool());
+    }
+
+    public static Report evaluate(CodeSpace space, int rounds, Strategy strategy, ForkJoinPool pool) {
+        int[] secrets = new int[space.getSize()];
+        for (int i = 0; i < secrets.length; i++) {
+            secrets[i] = i;
+        }
+        long start = System.nanoTime();
+        // Any secret stands for all of them before the first guess
+        long[] counts = pool.invoke(new NodeTask(space, strategy, new Game(space, space.code(0), rounds), secrets));
+        return new Report(counts, System.nanoTime() - start);
+    }
+
+    // Games won per number of guesses (index 0 counts the lost ones) over the secrets of one node
+    private static class NodeTask extends RecursiveTask<long[]> {
+        private final CodeSpace space;
+        private final Strategy strategy;
+        private final Game game;
+        // Ranks of the secrets still in this game, which are exactly its candidates
+        private final int[] secrets;
+
+        NodeTask(CodeSpace space, Strategy strategy, Game game, int[] secrets) {
+            this.space = space;
+            this.strategy = strategy;
+            this.game = game;
+            this.secrets = secrets;
+        }
+
+        @Override
+        protected long[] compute() {
+            long[] counts = new long[game.getMaxRounds() + 1];
+            int guess = strategy.nextGuess(game);
+            int pegs = space.getPegs();
+
+            // Counting sort of the secrets by feedback slot
+            int[] feedbacks = new int[secrets.length];
+            int[] offsets = new int[Scoring.slots(pegs) + 1];
+            for (int i = 0; i < secrets.length; i++) {
+                feedbacks[i] = Scoring.slot(Scoring.score(guess, space.code(secrets[i]), pegs), pegs);
+                offsets[feedbacks[i] + 1]++;
+            }
+            for (int slot = 0; slot < offsets.length - 1; slot++) {
+                offsets[slot + 1] += offsets[slot];
+            }
+            int[] sorted = new int[secrets.length];
+            int[] next = offsets.clone();
+            for (int i = 0; i < secrets.length; i++) {
+                sorted[next[feedbacks[i]]++] = secrets[i];
+            }
+
+            NodeTask[] forked = new NodeTask[offsets.length - 1];
+            for (int slot = 0; slot < offsets.length - 1; slot++) {
+                int from = offsets[slot], to = offsets[slot + 1];
+                if (from == to) {
+                    continue;
+                }
+                Game child = game.withSecret(space.code(sorted[from]));
+                child.submit(guess);
+                if (child.isWon()) {
+                    counts[child.getRound()]++;
+                } else if (child.isOver()) {
+                    counts[0] += to - from;
+                } else {
+                    NodeTask task = new NodeTask(space, strategy, child, Arrays.copyOfRange(sorted, from, to));
+                    if (to - from < LEAF_SECRETS) {
+                        add(counts, task.compute());
+                    } else {
+                        forked[slot] = task;
+                        task.fork();
+                    }
+                }
+            }
+            for (int slot = forked.length - 1; slot >= 0; slot--) {
+                if (forked[slot] != null) {
+                    add(counts, forked[slot].join());
+                }
+            }
+            return counts;
+        }
+
+        private static void add(long[] counts, long[] other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other[i];
+            }
+        }
+    }
+
+    // Outcome of an evaluation: how many secrets were found with each number of guesses, and lost
+    public static class Report {
+        public final long secrets, lost, nanos;
+        private final long[] counts;
+
+        public Report(long[] counts, long nanos) {
+            long secrets = 0;
+            for (long count : counts) {
+                secrets += count;
+            }
+            this.secrets = secrets;
+            this.lost = counts[0];
+            this.counts = counts.clone();
+            this.nanos = nanos;
+        }
+
+        // Secrets found with exactly this many guesses
+        public long getWon(int guesses) {
+            return guesses < 1 || guesses >= counts.length ? 0 : counts[guesses];
+        }
+
+        // Lost games count with every round played, as in Simulation.Report
+        public double averageGuesses() {
+            long guesses = lost * (counts.length - 1);
+            for (int r = 1; r < counts.length; r++) {
+                guesses += r * counts[r];
+            }
+            return secrets == 0 ? 0 : (double) guesses / secrets;
+        }
+
+        // Most guesses any won game needed, 0 if none was won
+        public int worstCase() {
+            for (int r = counts.length - 1; r > 0; r--) {
+                if (counts[r] > 0) {
+                    return r;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder(String.format("%d secrets, %.4f guesses/game, worst %d, %d lost, %.3f s%n",
+                    secrets, averageGuesses(), worstCase(), lost, nanos / 1e9));
+            out.append("guesses:");
+            for (int r = 1; r < counts.length; r++) {
+                if (counts[r] > 0) {
+                    out.append(' ').append(r).append('=').append(counts[r]);
+                }
+            }
+            return out.toString();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        String strategyName = args.length > 0 ? args[0] : "knuth";
+        int colors = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+        int pegs = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        CodeSpace space = new CodeSpace(colors, pegs);
+        Strategy strategy = switch (strategyName) {
+            case "knuth" -> Simulation.knuthSolver(space, ForkJoinPool.commonPool());
+            case "first" -> Strategy.firstCandidate();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategyName);
+        };
+        System.out.println(evaluate(space, rounds, strategy));
+    }
+}
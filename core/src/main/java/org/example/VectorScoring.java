@@ -0,0 +1,66 @@
+package org.example;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API version of Scoring.scoreAll: one packed secret per int lane, so a whole vector of
+// candidates is scored per instruction. Needs --add-modules jdk.incubator.vector; Scoring only
+// calls into this class when the module is present and falls back to the scalar loop otherwise.
+public final class VectorScoring {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int NIBBLE_LOW_BITS = 0x11111111;
+
+    private VectorScoring() {
+    }
+
+    public static void scoreAll(int guess, int[] secrets, int count, int pegs, int[] out) {
+        int pegMask = pegs == Scoring.MAX_PEGS ? -1 : (1 << (pegs << 2)) - 1;
+
+        // Colors used by the guess (bitmask) and how often each one occurs (one nibble per color)
+        int guessColors = 0;
+        long guessCounts = 0;
+        for (int i = 0; i < pegs; i++) {
+            int c = Scoring.peg(guess, i);
+            guessColors |= 1 << c;
+            guessCounts += 1L << (c << 2);
+        }
+
+        IntVector guessVector = IntVector.broadcast(SPECIES, guess);
+        int upper = SPECIES.loopBound(count);
+        int n = 0;
+        for (; n < upper; n += SPECIES.length()) {
+            IntVector secret = IntVector.fromArray(SPECIES, secrets, n);
+            IntVector blacks = differingPegs(secret.lanewise(VectorOperators.XOR, guessVector)).neg().add(pegs);
+
+            // Only colors present in the guess can produce matches
+            IntVector matches = IntVector.zero(SPECIES);
+            for (int colors = guessColors; colors != 0; colors &= colors - 1) {
+                int c = Integer.numberOfTrailingZeros(colors);
+                int repeated = (c * NIBBLE_LOW_BITS) & pegMask;
+                IntVector inSecret = differingPegs(secret.lanewise(VectorOperators.XOR, repeated)).neg().add(pegs);
+                matches = matches.add(inSecret.min((int) (guessCounts >>> (c << 2) & 15)));
+            }
+
+            IntVector whites = matches.sub(blacks);
+            blacks.lanewise(VectorOperators.LSHL, 5).or(whites).intoArray(out, n);
+        }
+
+        for (; n < count; n++) {
+            out[n] = Scoring.score(guess, secrets[n], pegs);
+        }
+    }
+
+    public static int laneCount() {
+        return SPECIES.length();
+    }
+
+    // Number of non-zero nibbles in every lane
+    private static IntVector differingPegs(IntVector diff) {
+        return diff.or(diff.lanewise(VectorOperators.LSHR, 1))
+                .or(diff.lanewise(VectorOperators.LSHR, 2))
+                .or(diff.lanewise(VectorOperators.LSHR, 3))
+                .and(NIBBLE_LOW_BITS)
+                .lanewise(VectorOperators.BIT_COUNT);
+    }
+}
@@ -0,0 +1,105 @@
+import org.example.CandidateSet;
+import org.example.CodeSpace;
+import org.example.Scoring;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateSetTest {
+
+    private final CodeSpace space = new CodeSpace(6, 4);
+
+    @Test
+    void testStartsWithEveryCode() {
+        CandidateSet candidates = new CandidateSet(space);
+        assertEquals(1296, candidates.size());
+        assertFalse(candidates.isEmpty());
+        assertTrue(candidates.contains(0));
+        assertTrue(candidates.contains(1295));
+        assertEquals(0, candidates.first());
+        assertEquals(-1, candidates.nextRank(1296));
+    }
+
+    @Test
+    void testSizeNotMultipleOfWordSize() {
+        CandidateSet candidates = new CandidateSet(new CodeSpace(5, 3));
+        assertEquals(125, candidates.size());
+        List<Integer> ranks = new ArrayList<>();
+        candidates.forEach(ranks::add);
+        assertEquals(125, ranks.size());
+        assertEquals(124, ranks.get(124));
+    }
+
+    @Test
+    void testRetainKeepsExactlyConsistentCodes() {
+        CandidateSet candidates = new CandidateSet(space);
+        int guess = space.code(7);
+        int feedback = Scoring.feedback(1, 1);
+
+        int remaining = candidates.retain(guess, feedback);
+
+        int expected = 0;
+        for (int rank = 0; rank < space.getSize(); rank++) {
+            boolean consistent = Scoring.score(guess, space.code(rank), 4) == feedback;
+            assertEquals(consistent, candidates.contains(rank));
+            if (consistent) {
+                expected++;
+            }
+        }
+        assertEquals(expected, remaining);
+        assertEquals(expected, candidates.size());
+    }
+
+    @Test
+    void testRetainNarrowsToSecret() {
+        CandidateSet candidates = new CandidateSet(space);
+        int secret = space.code(1000);
+        for (int rank = 0; rank < space.getSize() && candidates.size() > 1; rank += 97) {
+            int guess = space.code(rank);
+            candidates.retain(guess, Scoring.score(guess, secret, 4));
+            assertTrue(candidates.contains(1000));
+        }
+        candidates.retain(secret, Scoring.feedback(4, 0));
+        assertEquals(1, candidates.size());
+        assertEquals(1000, candidates.first());
+    }
+
+    @Test
+    void testIterationIsAscending() {
+        CandidateSet candidates = new CandidateSet(space);
+        candidates.retain(space.code(0), Scoring.feedback(0, 0));
+
+        int[] ranks = new int[candidates.size()];
+        candidates.toRanks(ranks);
+        for (int i = 1; i < ranks.length; i++) {
+            assertTrue(ranks[i - 1] < ranks[i]);
+        }
+        assertEquals(ranks[0], candidates.first());
+        assertEquals(ranks[1], candidates.nextRank(ranks[0] + 1));
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        CandidateSet candidates = new CandidateSet(space);
+        CandidateSet copy = candidates.copy();
+        copy.remove(5);
+        copy.remove(5);
+
+        assertEquals(1295, copy.size());
+        assertFalse(copy.contains(5));
+        assertTrue(candidates.contains(5));
+        assertEquals(1296, candidates.size());
+        assertSame(space, copy.getSpace());
+    }
+
+    @Test
+    void testImpossibleFeedbackEmptiesSet() {
+        CandidateSet candidates = new CandidateSet(space);
+        candidates.retain(space.code(0), Scoring.feedback(3, 1));
+        assertTrue(candidates.isEmpty());
+        assertEquals(-1, candidates.first());
+    }
+}
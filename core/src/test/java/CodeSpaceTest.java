@@ -0,0 +1,61 @@
+import org.example.CodeSpace;
+import org.example.Scoring;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeSpaceTest {
+
+    @Test
+    void testClassicSize() {
+        CodeSpace space = new CodeSpace(6, 4);
+        assertEquals(1296, space.getSize());
+        assertEquals(6, space.getColors());
+        assertEquals(4, space.getPegs());
+    }
+
+    @Test
+    void testCodesAreDistinctAndRankRoundTrips() {
+        CodeSpace space = new CodeSpace(5, 3);
+        Set<Integer> seen = new HashSet<>();
+        for (int rank = 0; rank < space.getSize(); rank++) {
+            int code = space.code(rank);
+            assertTrue(seen.add(code));
+            assertEquals(rank, space.rank(code));
+            for (int i = 0; i < space.getPegs(); i++) {
+                assertTrue(Scoring.peg(code, i) < space.getColors());
+            }
+        }
+    }
+
+    @Test
+    void testFirstPegIsLowestDigit() {
+        CodeSpace space = new CodeSpace(6, 4);
+        assertEquals(Scoring.encode(new int[]{1, 0, 0, 0}), space.code(1));
+        assertEquals(Scoring.encode(new int[]{0, 1, 0, 0}), space.code(6));
+        assertEquals(Scoring.encode(new int[]{5, 5, 5, 5}), space.code(1295));
+    }
+
+    @Test
+    void testScoreByRank() {
+        CodeSpace space = new CodeSpace(6, 4);
+        assertEquals(Scoring.feedback(4, 0), space.score(100, 100));
+        assertEquals(Scoring.score(space.code(3), space.code(700), 4), space.score(3, 700));
+    }
+
+    @Test
+    void testSameSize() {
+        assertTrue(new CodeSpace(6, 4).sameSize(new CodeSpace(6, 4)));
+        assertFalse(new CodeSpace(6, 4).sameSize(new CodeSpace(6, 5)));
+    }
+
+    @Test
+    void testRejectsUnsupportedSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new CodeSpace(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new CodeSpace(17, 4));
+        assertThrows(IllegalArgumentException.class, () -> new CodeSpace(16, 8));
+    }
+}
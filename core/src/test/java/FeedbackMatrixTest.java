@@ -0,0 +1,101 @@
+import org.example.CodeSpace;
+import org.example.FeedbackMatrix;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackMatrixTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMatrixMatchesScoring() throws IOException {
+        CodeSpace space = new CodeSpace(4, 3);
+        FeedbackMatrix matrix = FeedbackMatrix.open(tempDir.resolve("m.bin"), space);
+
+        for (int guess = 0; guess < space.getSize(); guess++) {
+            for (int secret = 0; secret < space.getSize(); secret++) {
+                assertEquals(space.score(guess, secret), matrix.feedback(guess, secret));
+            }
+        }
+        assertSame(space, matrix.getSpace());
+    }
+
+    @Test
+    void testFileIsWrittenOnceAndReused() throws IOException {
+        CodeSpace space = new CodeSpace(6, 4);
+        Path file = tempDir.resolve("feedback-6x4.bin");
+        FeedbackMatrix.open(file, space);
+        assertEquals(20 + 1296L * 1296, Files.size(file));
+
+        FileTime marker = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(file, marker);
+        FeedbackMatrix reopened = FeedbackMatrix.open(file, space);
+
+        assertEquals(marker, Files.getLastModifiedTime(file));
+        assertEquals(space.score(17, 900), reopened.feedback(17, 900));
+    }
+
+    @Test
+    void testStaleFileIsRecomputed() throws IOException {
+        Path file = tempDir.resolve("m.bin");
+        FeedbackMatrix.open(file, new CodeSpace(3, 3));
+
+        CodeSpace space = new CodeSpace(3, 2);
+        Files.write(file, new byte[20 + 81]);
+        FeedbackMatrix matrix = FeedbackMatrix.open(file, space);
+
+        assertEquals(space.score(4, 4), matrix.feedback(4, 4));
+    }
+
+    @Test
+    void testDamagedFileIsRecomputed() throws IOException {
+        CodeSpace space = new CodeSpace(4, 3);
+        Path file = tempDir.resolve("m.bin");
+        FeedbackMatrix.open(file, space);
+        byte[] bytes = Files.readAllBytes(file);
+
+        // One flipped feedback byte: right header and length, wrong checksum
+        bytes[bytes.length - 5] ^= 0x11;
+        Files.write(file, bytes);
+        assertEquals(space.score(63, 59), FeedbackMatrix.open(file, space).feedback(63, 59));
+        assertEquals(space.score(63, 59), Files.readAllBytes(file)[bytes.length - 5]);
+
+        // Cut short
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 100));
+        FeedbackMatrix.open(file, space);
+        assertEquals(bytes.length, Files.size(file));
+    }
+
+    @Test
+    void testComputedMatrixMatchesTheFile() throws IOException {
+        CodeSpace space = new CodeSpace(5, 3);
+        FeedbackMatrix mapped = FeedbackMatrix.open(tempDir.resolve("m.bin"), space);
+        FeedbackMatrix computed = FeedbackMatrix.compute(space);
+        for (int guess = 0; guess < space.getSize(); guess++) {
+            for (int secret = 0; secret < space.getSize(); secret++) {
+                assertEquals(mapped.feedback(guess, secret), computed.feedback(guess, secret));
+            }
+        }
+        assertSame(space, computed.getSpace());
+    }
+
+    @Test
+    void testRejectsTooManyPegs() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FeedbackMatrix.open(tempDir.resolve("m.bin"), new CodeSpace(2, 8)));
+        assertThrows(IllegalArgumentException.class, () -> FeedbackMatrix.compute(new CodeSpace(2, 8)));
+        assertTrue(FeedbackMatrix.supports(6, 4));
+        assertFalse(FeedbackMatrix.supports(6, 8));
+        assertFalse(FeedbackMatrix.supports(6, 9));
+        assertFalse(FeedbackMatrix.supports(17, 4));
+    }
+}
@@ -0,0 +1,199 @@
+import org.example.CodeSpace;
+import org.example.Game;
+import org.example.GameJournal;
+import org.example.GameRecord;
+import org.example.Scoring;
+import org.example.Simulation;
+import org.example.Strategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    // Random game of any size the journal takes, with increasing guess times
+    private static GameRecord randomRecord(SplittableRandom random) {
+        int colors = 1 + random.nextInt(Scoring.MAX_COLORS);
+        int pegs = 1 + random.nextInt(Scoring.MAX_LONG_PEGS);
+        int[] secret = new int[pegs];
+        Arrays.setAll(secret, i -> random.nextInt(colors));
+        int rounds = random.nextInt(12);
+        long[] guesses = new long[rounds];
+        int[] feedbacks = new int[rounds];
+        int[] times = new int[rounds];
+        for (int r = 0; r < rounds; r++) {
+            int[] guess = new int[pegs];
+            Arrays.setAll(guess, i -> random.nextInt(colors));
+            guesses[r] = Scoring.encodeLong(guess);
+            feedbacks[r] = Scoring.score(guess, secret);
+            times[r] = (r == 0 ? 0 : times[r - 1]) + random.nextInt(100_000);
+        }
+        long start = 1_700_000_000_000L + random.nextInt(1_000_000) - 500_000;
+        return new GameRecord(colors, pegs, Scoring.encodeLong(secret), guesses, feedbacks, start, times);
+    }
+
+    private static void assertSame(GameRecord expected, GameRecord actual) {
+        assertEquals(expected.colors, actual.colors);
+        assertEquals(expected.pegs, actual.pegs);
+        assertEquals(expected.secret, actual.secret);
+        assertArrayEquals(expected.guesses, actual.guesses);
+        assertArrayEquals(expected.feedbacks, actual.feedbacks);
+        assertEquals(expected.start, actual.start);
+        assertArrayEquals(expected.times, actual.times);
+    }
+
+    private static List<GameRecord> readAll(Path file) throws IOException {
+        List<GameRecord> records = new ArrayList<>();
+        assertEquals(GameJournal.read(file, records::add), records.size());
+        return records;
+    }
+
+    @Test
+    void testRoundTripOverManyBlocks(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        SplittableRandom random = new SplittableRandom(7);
+        List<GameRecord> written = new ArrayList<>();
+        try (GameJournal journal = GameJournal.open(file)) {
+            for (int i = 0; i < 5000; i++) {
+                GameRecord record = randomRecord(random);
+                journal.append(record);
+                written.add(record);
+            }
+        }
+        assertTrue(Files.size(file) > 3 * 64 * 1024);
+
+        List<GameRecord> read = readAll(file);
+        assertEquals(written.size(), read.size());
+        for (int i = 0; i < written.size(); i++) {
+            assertSame(written.get(i), read.get(i));
+        }
+    }
+
+    @Test
+    void testReopenAppendsAfterExistingGames(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        SplittableRandom random = new SplittableRandom(1);
+        GameRecord first = randomRecord(random), second = randomRecord(random);
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.append(first);
+        }
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.append(second);
+            // Nothing is on disk until the block is written
+            assertEquals(1, readAll(file).size());
+            journal.flush();
+            assertEquals(2, readAll(file).size());
+        }
+        List<GameRecord> read = readAll(file);
+        assertSame(first, read.get(0));
+        assertSame(second, read.get(1));
+    }
+
+    @Test
+    void testTornBlockIsCutOff(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        SplittableRandom random = new SplittableRandom(2);
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.append(randomRecord(random));
+            journal.flush();
+            journal.append(randomRecord(random));
+        }
+        long complete = Files.size(file);
+
+        // A crash in the middle of writing a block: its header promises more than the file holds
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(30).putInt(1000).putInt(3).flip());
+        }
+        assertEquals(2, readAll(file).size());
+
+        // A block of the right length whose payload didn't make it to disk
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(complete);
+            channel.position(complete);
+            channel.write(ByteBuffer.allocate(24).putInt(4).putInt(1).putLong(0).putInt(12345).flip());
+        }
+        assertEquals(2, readAll(file).size());
+
+        try (GameJournal journal = GameJournal.open(file)) {
+            assertEquals(complete, Files.size(file));
+            journal.append(randomRecord(random));
+        }
+        assertEquals(3, readAll(file).size());
+    }
+
+    @Test
+    void testCorruptBlockBeforeTheEndIsAnError(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        SplittableRandom random = new SplittableRandom(3);
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.append(randomRecord(random));
+            journal.flush();
+            journal.append(randomRecord(random));
+        }
+        // Flip a byte of the first block's payload, after the file and block headers
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer one = ByteBuffer.allocate(1);
+            channel.read(one, 30);
+            one.put(0, (byte) (one.get(0) ^ 0x55)).rewind();
+            channel.write(one, 30);
+        }
+        assertThrows(IOException.class, () -> GameJournal.read(file, record -> { }));
+    }
+
+    @Test
+    void testRejectsOtherFiles(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> GameJournal.open(file));
+        assertThrows(IOException.class, () -> GameJournal.read(file, record -> { }));
+        Files.write(file, new byte[]{1});
+        assertThrows(IOException.class, () -> GameJournal.read(file, record -> { }));
+    }
+
+    @Test
+    void testRecordsOfHeadlessGames(@TempDir Path dir) throws IOException {
+        CodeSpace space = new CodeSpace(6, 4);
+        Game game = new Game(space, space.code(space.getSize() - 1), 3);
+        Simulation.play(game, Strategy.firstCandidate());
+        GameRecord record = GameRecord.of(game, 42);
+        assertEquals(3, record.getRounds());
+        assertFalse(record.isWon());
+        assertEquals(0, record.getDuration());
+        assertEquals(space.code(space.getSize() - 1), record.secret);
+
+        Path file = dir.resolve("games.bin");
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.append(record);
+        }
+        GameRecord read = readAll(file).getFirst();
+        assertSame(record, read);
+        for (int i = 0; i < read.getRounds(); i++) {
+            assertEquals(read.feedbacks[i], Scoring.score((int) read.guesses[i], (int) read.secret, 4));
+        }
+    }
+
+    @Test
+    void testRecordChecks() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameRecord(17, 4, 0, new long[0], new int[0], 0, new int[0]));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameRecord(6, 4, 0, new long[1], new int[0], 0, new int[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameRecord(6, 4, 0, new long[2], new int[2], 0, new int[]{5, 4}));
+        GameRecord won = new GameRecord(6, 4, 0, new long[1], new int[]{Scoring.feedback(4, 0)}, 0, new int[]{900});
+        assertTrue(won.isWon());
+        assertEquals(900, won.getDuration());
+    }
+}
@@ -0,0 +1,155 @@
+import org.example.CodeSpace;
+import org.example.GameService;
+import org.example.Scoring;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServiceTest {
+
+    private final CodeSpace space = new CodeSpace(6, 4);
+    private final AtomicLong clock = new AtomicLong();
+
+    private GameService service(int capacity) {
+        return new GameService(space, 10, capacity, Duration.ofMinutes(5), clock::get);
+    }
+
+    @Test
+    void testNewGameTracksRounds() {
+        GameService service = service(100);
+        long id = service.newGame();
+
+        assertEquals(0, service.status(id).round);
+        service.submit(id, space.code(0));
+        service.submit(id, space.code(1));
+
+        GameService.Status status = service.status(id);
+        assertEquals(2, status.round);
+        assertEquals(10, status.maxRounds);
+        assertEquals(1, service.size());
+    }
+
+    @Test
+    void testSecretOnlyRevealedWhenOver() {
+        GameService service = new GameService(space, 1, 10, Duration.ofMinutes(5), clock::get);
+        long id = service.newGame();
+        assertEquals(-1, service.status(id).secret);
+
+        int feedback = service.submit(id, space.code(0));
+        GameService.Status status = service.status(id);
+
+        assertTrue(status.over);
+        assertEquals(Scoring.score(space.code(0), status.secret, 4), feedback);
+        assertEquals(Scoring.blacks(feedback) == 4, status.won);
+        assertThrows(IllegalStateException.class, () -> service.submit(id, space.code(0)));
+    }
+
+    @Test
+    void testUnknownGameIsRejected() {
+        GameService service = service(10);
+        assertThrows(NoSuchElementException.class, () -> service.submit(42, 0));
+        assertThrows(NoSuchElementException.class, () -> service.status(42));
+    }
+
+    @Test
+    void testGuessesOutsideTheSpaceAreRejected() {
+        GameService service = service(10);
+        long id = service.newGame();
+        assertThrows(IllegalArgumentException.class, () -> service.submit(id, Scoring.encode(new int[]{9, 0, 0, 0})));
+        assertThrows(IllegalArgumentException.class, () -> service.submit(id, 1 << 20));
+        assertEquals(0, service.status(id).round);
+    }
+
+    @Test
+    void testEndRemovesGame() {
+        GameService service = service(10);
+        long id = service.newGame();
+        assertTrue(service.end(id));
+        assertFalse(service.end(id));
+        assertEquals(0, service.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedGameIsEvictedAtCapacity() {
+        GameService service = service(1);
+        long first = service.newGame();
+        long second = service.newGame();
+
+        assertEquals(1, service.size());
+        assertEquals(1, service.getEvictions());
+        assertThrows(NoSuchElementException.class, () -> service.status(first));
+        assertEquals(0, service.status(second).round);
+    }
+
+    @Test
+    void testCapacityIsNeverExceeded() {
+        GameService service = service(100);
+        for (int i = 0; i < 1000; i++) {
+            service.newGame();
+        }
+        assertEquals(100, service.size());
+        assertEquals(900, service.getEvictions());
+    }
+
+    @Test
+    void testIdleGamesAreEvicted() {
+        GameService service = service(100);
+        long idle = service.newGame();
+        long active = service.newGame();
+
+        clock.addAndGet(Duration.ofMinutes(4).toNanos());
+        service.submit(active, space.code(0));
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertEquals(1, service.evictIdle());
+        assertEquals(1, service.size());
+        assertThrows(NoSuchElementException.class, () -> service.status(idle));
+        assertEquals(1, service.status(active).round);
+    }
+
+    @Test
+    void testExpiredGameIsDroppedOnAccess() {
+        GameService service = service(100);
+        long id = service.newGame();
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        assertThrows(NoSuchElementException.class, () -> service.submit(id, 0));
+        assertEquals(0, service.size());
+        assertEquals(1, service.getEvictions());
+    }
+
+    @Test
+    void testConcurrentGames() {
+        GameService service = new GameService(space, 10, 100_000, Duration.ofMinutes(5));
+        LongAdder submitted = new LongAdder();
+        LongAdder rounds = new LongAdder();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2000; i++) {
+                executor.execute(() -> {
+                    long id = service.newGame();
+                    // A lucky guess can end the game early
+                    for (int r = 0; r < 3 && !service.status(id).over; r++) {
+                        service.submit(id, space.code(r));
+                        submitted.increment();
+                    }
+                    rounds.add(service.status(id).round);
+                });
+            }
+        }
+        assertEquals(2000, service.size());
+        assertTrue(submitted.sum() > 5000);
+        assertEquals(submitted.sum(), rounds.sum());
+    }
+
+    @Test
+    void testRejectsZeroCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> service(0));
+    }
+}
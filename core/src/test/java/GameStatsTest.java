@@ -0,0 +1,113 @@
+import org.example.GameJournal;
+import org.example.GameRecord;
+import org.example.GameStats;
+import org.example.Scoring;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStatsTest {
+
+    // Game of 6 colors and 4 pegs whose last guess is the secret when won
+    private static GameRecord game(int[] secret, int rounds, boolean won, int... times) {
+        long[] guesses = new long[rounds];
+        int[] feedbacks = new int[rounds];
+        for (int r = 0; r < rounds; r++) {
+            int[] guess = won && r == rounds - 1 ? secret : new int[]{5, 5, 5, (r + 1) % 5};
+            guesses[r] = Scoring.encodeLong(guess);
+            feedbacks[r] = Scoring.score(guess, secret);
+        }
+        return new GameRecord(6, 4, Scoring.encodeLong(secret), guesses, feedbacks, 0, times);
+    }
+
+    @Test
+    void testCounts() {
+        GameStats stats = new GameStats();
+        stats.add(game(new int[]{0, 1, 2, 3}, 2, true, 1000, 3000));
+        stats.add(game(new int[]{0, 0, 0, 1}, 3, false, 0, 10, 20));
+        stats.add(game(new int[]{1, 1, 1, 1}, 4, true, 500, 1000, 1500, 2000));
+
+        assertEquals(3, stats.getGames());
+        assertEquals(2, stats.getWins());
+        assertEquals(2.0 / 3, stats.getWinRate(), 1e-12);
+        assertEquals(0, stats.getWinRate(1));
+        assertEquals(1.0 / 3, stats.getWinRate(3), 1e-12);
+        assertEquals(2.0 / 3, stats.getWinRate(100), 1e-12);
+        assertEquals(3, stats.getAverageGuesses(), 1e-12);
+        long[] counts = stats.getGuessCounts();
+        assertEquals(1, counts[2]);
+        assertEquals(1, counts[3]);
+        assertEquals(1, counts[4]);
+        assertEquals(4.0 / 12, stats.getSecretColorFrequency(0), 1e-12);
+        assertEquals(6.0 / 12, stats.getSecretColorFrequency(1), 1e-12);
+        assertEquals(0, stats.getSecretColorFrequency(5));
+        assertEquals(9, stats.getMoveMillis().getCount());
+        assertEquals(2000, stats.getMoveMillis().getMax());
+        assertEquals(500, stats.getMoveMillis().quantile(0.5), 500 * 0.01);
+        assertTrue(stats.toString().startsWith("3 games, 2 won"));
+    }
+
+    @Test
+    void testLongGamesKeepTheirOwnBucket() {
+        GameStats stats = new GameStats();
+        stats.add(game(new int[]{0, 1, 2, 3}, 70, true, new int[70]));
+        stats.add(game(new int[]{0, 1, 2, 3}, 200, false, new int[200]));
+        assertEquals(1, stats.getGuessCounts()[70]);
+        assertEquals(1, stats.getGuessCounts()[200]);
+        assertEquals(0, stats.getGuessCounts()[64]);
+        assertEquals(135, stats.getAverageGuesses(), 1e-12);
+        assertEquals(0, stats.getWinRate(64));
+        assertEquals(0.5, stats.getWinRate(70), 1e-12);
+
+        // Merging into stats with shorter histograms keeps the long games
+        GameStats merged = new GameStats();
+        merged.add(game(new int[]{0, 1, 2, 3}, 3, true, new int[3]));
+        merged.merge(stats);
+        assertEquals(1, merged.getGuessCounts()[200]);
+        assertEquals(2.0 / 3, merged.getWinRate(70), 1e-12);
+    }
+
+    @Test
+    void testParallelJournalReadMatchesSequential(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        SplittableRandom random = new SplittableRandom(11);
+        GameStats sequential = new GameStats();
+        try (GameJournal journal = GameJournal.open(file)) {
+            for (int i = 0; i < 60_000; i++) {
+                int[] secret = new int[4];
+                Arrays.setAll(secret, p -> random.nextInt(6));
+                int rounds = 1 + random.nextInt(10);
+                int[] times = new int[rounds];
+                for (int r = 0; r < rounds; r++) {
+                    times[r] = (r == 0 ? 0 : times[r - 1]) + random.nextInt(60_000);
+                }
+                GameRecord record = game(secret, rounds, random.nextBoolean(), times);
+                journal.append(record);
+                sequential.add(record);
+            }
+        }
+        assertTrue(GameJournal.blocks(file).length > 16);
+
+        GameStats parallel = GameStats.of(file, new ForkJoinPool(4));
+        assertEquals(sequential.getGames(), parallel.getGames());
+        assertEquals(sequential.getWins(), parallel.getWins());
+        assertArrayEquals(sequential.getGuessCounts(), parallel.getGuessCounts());
+        for (int limit = 0; limit <= 12; limit++) {
+            assertEquals(sequential.getWinRate(limit), parallel.getWinRate(limit));
+        }
+        for (int color = 0; color < 6; color++) {
+            assertEquals(sequential.getSecretColorFrequency(color), parallel.getSecretColorFrequency(color));
+        }
+        for (double q : new double[]{0.5, 0.9, 0.99}) {
+            assertEquals(sequential.getMoveMillis().quantile(q), parallel.getMoveMillis().quantile(q));
+        }
+        assertEquals(sequential.toString(), GameStats.of(file).toString());
+    }
+}
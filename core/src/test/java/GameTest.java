@@ -0,0 +1,114 @@
+import org.example.CodeSpace;
+import org.example.Game;
+import org.example.Scoring;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTest {
+
+    private final CodeSpace space = new CodeSpace(6, 4);
+
+    @Test
+    void testSubmitRecordsHistory() {
+        int secret = Scoring.encode(new int[]{0, 1, 2, 3});
+        Game game = new Game(space, secret, 10);
+        int guess = Scoring.encode(new int[]{0, 2, 1, 5});
+
+        int feedback = game.submit(guess);
+
+        assertEquals(Scoring.feedback(1, 2), feedback);
+        assertEquals(1, game.getRound());
+        assertEquals(guess, game.getGuess(0));
+        assertEquals(feedback, game.getFeedback(0));
+        assertFalse(game.isOver());
+        assertFalse(game.isWon());
+        assertEquals(secret, game.getSecret());
+        assertEquals(10, game.getMaxRounds());
+        assertSame(space, game.getSpace());
+    }
+
+    @Test
+    void testWinEndsGame() {
+        int secret = space.code(321);
+        Game game = new Game(space, secret, 10);
+        game.submit(secret);
+
+        assertTrue(game.isWon());
+        assertTrue(game.isOver());
+        assertThrows(IllegalStateException.class, () -> game.submit(secret));
+    }
+
+    @Test
+    void testRoundLimitEndsGame() {
+        Game game = new Game(space, space.code(1), 2);
+        game.submit(space.code(0));
+        game.submit(space.code(0));
+
+        assertTrue(game.isOver());
+        assertFalse(game.isWon());
+        assertThrows(IllegalStateException.class, () -> game.submit(space.code(1)));
+    }
+
+    @Test
+    void testGuessesOutsideTheSpaceAreRejected() {
+        Game game = new Game(space, space.code(5), 10);
+        // A peg of color 6 on a 6-color board
+        assertThrows(IllegalArgumentException.class, () -> game.submit(Scoring.encode(new int[]{0, 6, 0, 0})));
+        // Bits past the fourth peg
+        assertThrows(IllegalArgumentException.class, () -> game.submit(space.code(5) | 1 << 16));
+        assertThrows(IllegalArgumentException.class, () -> game.submit(-1));
+        assertEquals(0, game.getRound());
+    }
+
+    @Test
+    void testCandidatesFollowHistory() {
+        int secret = space.code(900);
+        Game game = new Game(space, secret, 10);
+        game.submit(space.code(7));
+
+        // Created after the first guess, so it must replay it
+        int afterFirst = game.getCandidates().size();
+        assertTrue(afterFirst < space.getSize());
+        assertTrue(game.getCandidates().contains(900));
+
+        game.submit(space.code(500));
+        assertTrue(game.getCandidates().size() <= afterFirst);
+        assertTrue(game.getCandidates().contains(900));
+    }
+
+    @Test
+    void testRandomSecretComesFromSpace() {
+        Game game = Game.random(space, 10, new Random(1));
+        assertTrue(space.rank(game.getSecret()) < space.getSize());
+        assertEquals(game.getSecret(), space.code(space.rank(game.getSecret())));
+    }
+
+    @Test
+    void testWithSecretKeepsTheHistory() {
+        Game game = new Game(space, space.code(900), 10);
+        game.submit(space.code(0));
+        int candidates = game.getCandidates().size();
+        int other = space.code(game.getCandidates().first());
+
+        Game copy = game.withSecret(other);
+        assertEquals(other, copy.getSecret());
+        assertEquals(1, copy.getRound());
+        assertEquals(game.getFeedback(0), copy.getFeedback(0));
+        assertEquals(candidates, copy.getCandidates().size());
+        copy.submit(other);
+        assertTrue(copy.isWon());
+        assertEquals(candidates, game.getCandidates().size());
+        assertThrows(IllegalArgumentException.class, () -> game.withSecret(space.code(0)));
+    }
+
+    @Test
+    void testUnplayedRoundIsRejected() {
+        Game game = new Game(space, 0, 10);
+        assertThrows(IndexOutOfBoundsException.class, () -> game.getGuess(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> game.getFeedback(-1));
+        assertThrows(IllegalArgumentException.class, () -> new Game(space, 0, 0));
+    }
+}
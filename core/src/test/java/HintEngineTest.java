@@ -0,0 +1,144 @@
+import org.example.CandidateSet;
+import org.example.CodeSpace;
+import org.example.HintEngine;
+import org.example.Scoring;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HintEngineTest {
+
+    private final CodeSpace space = new CodeSpace(6, 4);
+
+    // Entropy of the feedback of a guess over the candidates, computed the slow way
+    private static double entropy(int guess, CandidateSet candidates) {
+        CodeSpace space = candidates.getSpace();
+        Map<Integer, Integer> partitions = new HashMap<>();
+        candidates.forEach(rank -> partitions.merge(Scoring.score(guess, space.code(rank), space.getPegs()), 1, Integer::sum));
+        double n = candidates.size(), bits = 0;
+        for (int size : partitions.values()) {
+            bits -= size / n * Math.log(size / n) / Math.log(2);
+        }
+        return bits;
+    }
+
+    private static double bestEntropy(CandidateSet candidates) {
+        double best = 0;
+        for (int rank = 0; rank < candidates.getSpace().getSize(); rank++) {
+            best = Math.max(best, entropy(candidates.getSpace().code(rank), candidates));
+        }
+        return best;
+    }
+
+    @Test
+    void testOpeningHintHasTheMostInformation() {
+        HintEngine engine = new HintEngine(space);
+        CandidateSet all = new CandidateSet(space);
+
+        HintEngine.Hint hint = engine.hint();
+
+        assertEquals(bestEntropy(all), hint.bits, 1e-9);
+        assertEquals(entropy(hint.code, all), hint.bits, 1e-9);
+    }
+
+    @Test
+    void testIncrementalHistogramsMatchBruteForce() {
+        HintEngine engine = new HintEngine(space);
+        CandidateSet candidates = new CandidateSet(space);
+        int secret = Scoring.encode(new int[]{5, 2, 2, 0});
+
+        // Follows its own hints, checking each one against every code of the space
+        for (int turn = 0; turn < 8 && candidates.size() > 1; turn++) {
+            HintEngine.Hint hint = engine.hint();
+            assertEquals(bestEntropy(candidates), hint.bits, 1e-9);
+            assertEquals(entropy(hint.code, candidates), hint.bits, 1e-9);
+
+            int feedback = Scoring.score(hint.code, secret, 4);
+            assertEquals(candidates.retain(hint.code, feedback), engine.retain(hint.code, feedback));
+        }
+        assertEquals(1, engine.size());
+        assertEquals(secret, engine.hint().code);
+        assertEquals(0, engine.hint().bits);
+    }
+
+    @Test
+    void testUpdatedAndRebuiltHistogramsAgree() {
+        int secret = Scoring.encode(new int[]{1, 1, 3, 4});
+        int[] guesses = {
+                Scoring.encode(new int[]{0, 0, 1, 1}),
+                Scoring.encode(new int[]{2, 3, 3, 4}),
+                Scoring.encode(new int[]{1, 5, 4, 3})
+        };
+        HintEngine incremental = new HintEngine(space);
+        incremental.hint();
+        HintEngine fresh = new HintEngine(space);
+        for (int guess : guesses) {
+            int feedback = Scoring.score(guess, secret, 4);
+            incremental.retain(guess, feedback);
+            fresh.retain(guess, feedback);
+            incremental.hint();
+        }
+
+        HintEngine.Hint expected = fresh.hint();
+        HintEngine.Hint actual = incremental.hint();
+        assertEquals(expected.code, actual.code);
+        assertEquals(expected.bits, actual.bits, 1e-9);
+    }
+
+    @Test
+    void testPrefersCandidatesOnTies() {
+        int ties = 0;
+        for (int secret : new int[]{space.code(0), space.code(777), space.code(1295)}) {
+            HintEngine engine = new HintEngine(space);
+            CandidateSet candidates = new CandidateSet(space);
+            while (candidates.size() > 1) {
+                HintEngine.Hint hint = engine.hint();
+                double[] bestCandidate = {0};
+                candidates.forEach(rank -> bestCandidate[0] = Math.max(bestCandidate[0], entropy(space.code(rank), candidates)));
+                // When a code that can win is as good as any, that is the one to play
+                if (bestCandidate[0] > hint.bits - 1e-9) {
+                    assertTrue(candidates.contains(space.rank(hint.code)));
+                    ties++;
+                }
+                int feedback = Scoring.score(hint.code, secret, 4);
+                candidates.retain(hint.code, feedback);
+                engine.retain(hint.code, feedback);
+            }
+        }
+        assertTrue(ties > 0);
+    }
+
+    @Test
+    void testNoCandidateLeft() {
+        HintEngine engine = new HintEngine(space);
+        int guess = Scoring.encode(new int[]{0, 0, 0, 0});
+        assertEquals(0, engine.retain(guess, Scoring.feedback(3, 1)));
+        assertThrows(IllegalStateException.class, engine::hint);
+    }
+
+    @Test
+    void testLargeSpaceIsSampled() {
+        CodeSpace large = new CodeSpace(8, 6);
+        HintEngine engine = new HintEngine(large);
+        int secret = Scoring.encode(new int[]{7, 0, 3, 3, 1, 6});
+
+        for (int turn = 0; turn < 4 && engine.size() > 1; turn++) {
+            HintEngine.Hint hint = engine.hint();
+            assertTrue(hint.bits > 0);
+            engine.retain(hint.code, Scoring.score(hint.code, secret, 6));
+        }
+        assertTrue(engine.size() >= 1 && engine.size() < 100);
+    }
+
+    @Test
+    void testSupportedSizes() {
+        assertTrue(HintEngine.supports(6, 4));
+        assertTrue(HintEngine.supports(10, 6));
+        assertFalse(HintEngine.supports(12, 6));
+        assertFalse(HintEngine.supports(6, 9));
+        assertThrows(IllegalArgumentException.class, () -> new HintEngine(new CodeSpace(12, 6)));
+    }
+}
@@ -0,0 +1,124 @@
+import org.example.CandidateSet;
+import org.example.CodeSpace;
+import org.example.FeedbackMatrix;
+import org.example.KnuthSolver;
+import org.example.Scoring;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KnuthSolverTest {
+
+    private final CodeSpace space = new CodeSpace(6, 4);
+
+    // Plays a full game and returns the number of guesses needed
+    private int play(KnuthSolver solver, int secret) {
+        int[] guesses = new int[0];
+        int[] feedbacks = new int[0];
+        while (true) {
+            int guess = solver.nextGuess(guesses, feedbacks);
+            int feedback = Scoring.score(guess, secret, space.getPegs());
+            guesses = Arrays.copyOf(guesses, guesses.length + 1);
+            feedbacks = Arrays.copyOf(feedbacks, feedbacks.length + 1);
+            guesses[guesses.length - 1] = guess;
+            feedbacks[feedbacks.length - 1] = feedback;
+            if (Scoring.blacks(feedback) == space.getPegs()) {
+                return guesses.length;
+            }
+        }
+    }
+
+    @Test
+    void testFirstGuessHasKnuthWorstCase() {
+        KnuthSolver solver = new KnuthSolver(space);
+        int first = solver.nextGuess(new int[0], new int[0]);
+
+        int[] partitions = new int[Scoring.feedback(4, 0) + 1];
+        int worst = 0;
+        for (int secret = 0; secret < space.getSize(); secret++) {
+            worst = Math.max(worst, ++partitions[Scoring.score(first, space.code(secret), 4)]);
+        }
+        assertEquals(256, worst);
+        assertEquals(first, solver.nextGuess(new int[0], new int[0]));
+    }
+
+    @Test
+    void testSolvesRandomSecretsWithinFiveGuesses() {
+        KnuthSolver solver = new KnuthSolver(space);
+        Random random = new Random(3);
+        for (int n = 0; n < 25; n++) {
+            int secret = space.code(random.nextInt(space.getSize()));
+            assertTrue(play(solver, secret) <= 5);
+        }
+    }
+
+    @Test
+    void testMatrixBackedSolverPicksSameGuesses(@TempDir Path tempDir) throws IOException {
+        FeedbackMatrix matrix = FeedbackMatrix.open(tempDir.resolve("m.bin"), space);
+        KnuthSolver plain = new KnuthSolver(space);
+        KnuthSolver tabled = new KnuthSolver(space, matrix);
+
+        int first = plain.nextGuess(new int[0], new int[0]);
+        assertEquals(first, tabled.nextGuess(new int[0], new int[0]));
+
+        int[] guesses = {first};
+        int[] feedbacks = {Scoring.feedback(1, 1)};
+        assertEquals(plain.nextGuess(guesses, feedbacks), tabled.nextGuess(guesses, feedbacks));
+    }
+
+    @Test
+    void testSingleCandidateIsPlayed() {
+        KnuthSolver solver = new KnuthSolver(new CodeSpace(2, 2));
+        int guess = Scoring.encode(new int[]{0, 1});
+        // Only 1,0 gives two whites against 0,1
+        int next = solver.nextGuess(new int[]{guess}, new int[]{Scoring.feedback(0, 2)});
+        assertEquals(Scoring.encode(new int[]{1, 0}), next);
+    }
+
+    @Test
+    void testInconsistentFeedbackThrows() {
+        KnuthSolver solver = new KnuthSolver(space);
+        int guess = space.code(0);
+        // A code cannot have three blacks and one white
+        assertThrows(IllegalStateException.class,
+                () -> solver.nextGuess(new int[]{guess}, new int[]{Scoring.feedback(3, 1)}));
+    }
+
+    @Test
+    void testHistoryLengthsMustMatch() {
+        KnuthSolver solver = new KnuthSolver(space);
+        assertThrows(IllegalArgumentException.class, () -> solver.nextGuess(new int[]{0}, new int[0]));
+    }
+
+    @Test
+    void testMatrixMustMatchSpace(@TempDir Path tempDir) throws IOException {
+        FeedbackMatrix matrix = FeedbackMatrix.open(tempDir.resolve("m.bin"), new CodeSpace(4, 3));
+        assertThrows(IllegalArgumentException.class, () -> new KnuthSolver(space, matrix));
+    }
+
+    @Test
+    void testIncrementalCandidatesMatchHistory() {
+        KnuthSolver solver = new KnuthSolver(space);
+        int secret = space.code(555);
+        CandidateSet candidates = new CandidateSet(space);
+
+        int first = solver.nextGuess(candidates);
+        assertEquals(solver.nextGuess(new int[0], new int[0]), first);
+
+        int feedback = Scoring.score(first, secret, 4);
+        candidates.retain(first, feedback);
+        assertEquals(solver.nextGuess(new int[]{first}, new int[]{feedback}), solver.nextGuess(candidates));
+    }
+
+    @Test
+    void testCandidatesMustMatchSpace() {
+        KnuthSolver solver = new KnuthSolver(space);
+        assertThrows(IllegalArgumentException.class, () -> solver.nextGuess(new CandidateSet(new CodeSpace(6, 3))));
+    }
+}
@@ -0,0 +1,179 @@
+import org.example.CodeSpace;
+import org.example.FeedbackMatrix;
+import org.example.GameJournal;
+import org.example.GameRecord;
+import org.example.HintEngine;
+import org.example.MasterMindEngine;
+import org.example.Scoring;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MasterMindEngineTest {
+
+    @Test
+    void testEveryScoringPathAgreesWithTheIndexArrays() {
+        Random random = new Random(7);
+        // Packed in an int, in a long and too long for either
+        int[][] sizes = {{6, 4}, {10, 12}, {20, 24}};
+        for (int[] size : sizes) {
+            int colors = size[0], pegs = size[1];
+            for (int n = 0; n < 50; n++) {
+                int[] secret = random(random, colors, pegs);
+                int[] guess = random(random, colors, pegs);
+                MasterMindEngine engine = new MasterMindEngine(colors, secret);
+                assertEquals(Scoring.score(guess, secret), engine.score(guess));
+                assertEquals(Scoring.score(guess, secret), engine.checkGuess(guess));
+            }
+        }
+    }
+
+    @Test
+    void testPackedCodes() {
+        MasterMindEngine engine = new MasterMindEngine(6, new int[]{5, 0, 0, 2});
+        int code = Scoring.encode(new int[]{5, 0, 0, 2});
+        assertEquals(code, engine.getSecretCode());
+        assertEquals(code, engine.getSecretLongCode());
+        assertEquals(Scoring.feedback(4, 0), engine.score(code));
+        assertEquals(Scoring.feedback(4, 0), engine.score((long) code));
+
+        int[] longSecret = new int[12];
+        MasterMindEngine longEngine = new MasterMindEngine(10, longSecret);
+        assertThrows(IllegalStateException.class, longEngine::getSecretCode);
+        assertThrows(IllegalStateException.class, () -> longEngine.score(0));
+        assertEquals(0L, longEngine.getSecretLongCode());
+        assertEquals(Scoring.feedback(12, 0), longEngine.score(0L));
+
+        MasterMindEngine arrayEngine = new MasterMindEngine(20, new int[20]);
+        assertThrows(IllegalStateException.class, arrayEngine::getSecretLongCode);
+        assertThrows(IllegalStateException.class, () -> arrayEngine.score(0L));
+    }
+
+    @Test
+    void testRejectsBadCodes() {
+        assertThrows(IllegalArgumentException.class, () -> new MasterMindEngine(0, new int[]{0}));
+        assertThrows(IllegalArgumentException.class, () -> new MasterMindEngine(6, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new MasterMindEngine(6, new int[Scoring.MAX_ARRAY_PEGS + 1]));
+        assertThrows(IllegalArgumentException.class, () -> new MasterMindEngine(6, new int[]{0, 6, 0, 0}));
+
+        MasterMindEngine engine = new MasterMindEngine(6, new int[]{0, 1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> engine.score(new int[]{0, 1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> engine.score(new int[]{0, 1, 2, -1}));
+        assertThrows(IllegalArgumentException.class, () -> engine.score(Scoring.encode(new int[]{0, 1, 2, 6})));
+        assertThrows(IllegalArgumentException.class, () -> new MasterMindEngine(20, new int[20]).score(new int[]{
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 20}));
+    }
+
+    @Test
+    void testSecretIsCopied() {
+        int[] secret = {1, 2, 3, 4};
+        MasterMindEngine engine = new MasterMindEngine(6, secret);
+        secret[0] = 5;
+        engine.getSecret()[1] = 5;
+        assertArrayEquals(new int[]{1, 2, 3, 4}, engine.getSecret());
+        assertEquals(4, engine.getSecretLength());
+        assertEquals(6, engine.getColors());
+    }
+
+    @Test
+    void testFeedbackMatrixScoresTheSame() {
+        CodeSpace space = new CodeSpace(6, 4);
+        MasterMindEngine engine = new MasterMindEngine(6, new int[]{3, 1, 4, 1});
+        int[] guess = {1, 1, 3, 5};
+        int expected = engine.score(guess);
+
+        engine.setFeedbackMatrix(FeedbackMatrix.compute(space));
+        assertEquals(expected, engine.score(guess));
+        assertEquals(expected, engine.score(Scoring.encode(guess)));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.setFeedbackMatrix(FeedbackMatrix.compute(new CodeSpace(6, 3))));
+        assertThrows(IllegalArgumentException.class, () -> engine.score(Scoring.encode(new int[]{1, 1, 3, 7})));
+        assertThrows(IllegalArgumentException.class, () -> engine.score(Scoring.encode(guess) | 1 << 16));
+    }
+
+    @Test
+    void testHintsFollowCheckedGuesses() {
+        MasterMindEngine engine = new MasterMindEngine(6, new int[]{3, 1, 4, 1});
+        assertFalse(engine.hasHints());
+        assertNull(engine.hint());
+        assertThrows(IllegalArgumentException.class, () -> engine.setHintEngine(new HintEngine(new CodeSpace(5, 4))));
+
+        engine.setHintEngine(new HintEngine(new CodeSpace(6, 4)));
+        engine.checkGuess(new int[]{0, 0, 1, 1});
+        engine.checkGuess(new int[]{2, 3, 4, 5});
+        engine.checkGuess(new int[]{3, 1, 4, 1});
+        assertTrue(engine.hasHints());
+        assertEquals(engine.getSecretCode(), engine.hint().code);
+    }
+
+    @Test
+    void testHintsAreNarrowedWhenAsked() {
+        CodeSpace space = new CodeSpace(6, 4);
+        HintEngine hints = new HintEngine(space);
+        MasterMindEngine engine = new MasterMindEngine(6, new int[]{3, 1, 4, 1});
+        engine.setHintEngine(hints);
+
+        // More guesses than the first queue holds
+        for (int i = 0; i < 20; i++) {
+            engine.checkGuess(new int[]{i % 6, 0, 1, 1});
+        }
+        assertEquals(space.getSize(), hints.size());
+        HintEngine.Hint hint = engine.hint();
+
+        HintEngine expected = new HintEngine(space);
+        for (int i = 0; i < 20; i++) {
+            int guess = Scoring.encode(new int[]{i % 6, 0, 1, 1});
+            expected.retain(guess, Scoring.score(guess, engine.getSecretCode(), 4));
+        }
+        assertEquals(expected.size(), hints.size());
+        assertEquals(expected.hint().code, hint.code);
+
+        // An engine that was narrowed elsewhere doesn't know this game's guesses
+        assertThrows(IllegalArgumentException.class,
+                () -> new MasterMindEngine(6, new int[]{3, 1, 4, 1}).setHintEngine(hints));
+    }
+
+    @Test
+    void testFinishedGameIsJournaledOnce(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        MasterMindEngine engine = new MasterMindEngine(6, new int[]{3, 1, 4, 1});
+        assertDoesNotThrow(engine::finish);
+        try (GameJournal journal = GameJournal.open(file)) {
+            engine.setJournal(journal);
+            assertThrows(IllegalArgumentException.class, () -> new MasterMindEngine(17, new int[4]).setJournal(journal));
+            // More guesses than the first buffers hold
+            for (int i = 0; i < 20; i++) {
+                engine.checkGuess(new int[]{i % 6, 0, 0, 0});
+            }
+            engine.checkGuess(new int[]{3, 1, 4, 1});
+            engine.finish();
+            engine.finish();
+        }
+
+        List<GameRecord> records = new ArrayList<>();
+        GameJournal.read(file, records::add);
+        assertEquals(1, records.size());
+        GameRecord record = records.getFirst();
+        assertEquals(21, record.getRounds());
+        assertTrue(record.isWon());
+        assertEquals(engine.getSecretLongCode(), record.secret);
+        for (int i = 1; i < 21; i++) {
+            assertTrue(record.times[i] >= record.times[i - 1]);
+        }
+    }
+
+    private static int[] random(Random random, int colors, int pegs) {
+        int[] code = new int[pegs];
+        for (int i = 0; i < pegs; i++) {
+            code[i] = random.nextInt(colors);
+        }
+        return code;
+    }
+}
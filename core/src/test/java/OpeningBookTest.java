@@ -0,0 +1,152 @@
+import org.example.CandidateSet;
+import org.example.CodeSpace;
+import org.example.Game;
+import org.example.KnuthSolver;
+import org.example.OpeningBook;
+import org.example.Scoring;
+import org.example.Simulation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningBookTest {
+
+    private final CodeSpace classic = new CodeSpace(6, 4);
+    private final CodeSpace small = new CodeSpace(4, 3);
+
+    @Test
+    void testBookMovesMatchTheSolver(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("book.bin");
+        OpeningBook.write(file, 3, List.of(classic, small));
+        OpeningBook book = OpeningBook.open(file);
+        assertTrue(book.covers(classic));
+        assertEquals(3, book.getPlies(small));
+
+        KnuthSolver solver = new KnuthSolver(classic);
+        assertEquals(solver.nextGuess(new CandidateSet(classic)), book.nextGuess(classic, new int[0], new int[0]));
+
+        // Every reply to the opening and to the second move is in the book and is the solver's move
+        int opening = book.nextGuess(classic, new int[0], new int[0]);
+        for (int secret = 0; secret < classic.getSize(); secret += 37) {
+            int feedback = classic.score(classic.rank(opening), secret);
+            CandidateSet candidates = new CandidateSet(classic);
+            candidates.retain(opening, feedback);
+            int second = book.nextGuess(classic, new int[]{opening}, new int[]{feedback});
+            assertEquals(solver.nextGuess(candidates), second);
+
+            int secondFeedback = Scoring.score(second, classic.code(secret), 4);
+            if (Scoring.blacks(secondFeedback) == 4) {
+                continue;
+            }
+            candidates.retain(second, secondFeedback);
+            int[] guesses = {opening, second};
+            int[] feedbacks = {feedback, secondFeedback};
+            assertEquals(solver.nextGuess(candidates), book.nextGuess(classic, guesses, feedbacks));
+            // Past the last ply the solver searches again
+            assertEquals(-1, book.nextGuess(classic, new int[]{opening, second, opening},
+                    new int[]{feedback, secondFeedback, feedback}));
+        }
+    }
+
+    @Test
+    void testGamesLeaveTheBookWhenOffIt(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("book.bin");
+        OpeningBook.write(file, 2, List.of(small));
+        OpeningBook book = OpeningBook.open(file);
+
+        int opening = book.nextGuess(small, new int[0], new int[0]);
+        int other = opening == 0 ? 1 : 0;
+        assertEquals(-1, book.nextGuess(small, new int[]{other}, new int[]{Scoring.feedback(0, 0)}));
+        // A feedback the opening can't get has no child
+        assertEquals(-1, book.nextGuess(small, new int[]{opening}, new int[]{Scoring.feedback(2, 1)}));
+        assertFalse(book.covers(classic));
+        assertEquals(0, book.getPlies(classic));
+        assertEquals(-1, book.nextGuess(classic, new int[0], new int[0]));
+
+        Game game = new Game(small, small.code(11), 10);
+        assertEquals(opening, book.nextGuess(game));
+    }
+
+    @Test
+    void testSolverWithBookPlaysTheSameGames(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("book.bin");
+        OpeningBook.write(file, 3, List.of(small));
+        KnuthSolver plain = new KnuthSolver(small);
+        KnuthSolver booked = new KnuthSolver(small);
+        booked.setOpeningBook(OpeningBook.open(file));
+
+        for (int secret = 0; secret < small.getSize(); secret++) {
+            Game withBook = new Game(small, small.code(secret), 10);
+            Game without = new Game(small, small.code(secret), 10);
+            assertTrue(Simulation.play(withBook, booked));
+            assertTrue(Simulation.play(without, plain));
+            assertEquals(without.getRound(), withBook.getRound());
+            for (int round = 0; round < without.getRound(); round++) {
+                assertEquals(without.getGuess(round), withBook.getGuess(round));
+            }
+        }
+
+        int[] guesses = {booked.nextGuess(new int[0], new int[0])};
+        int[] feedbacks = {Scoring.feedback(0, 1)};
+        assertEquals(plain.nextGuess(guesses, feedbacks), booked.nextGuess(guesses, feedbacks));
+    }
+
+    @Test
+    void testRejectsOtherFiles(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("book.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        assertThrows(IOException.class, () -> OpeningBook.open(file));
+
+        OpeningBook.write(file, 2, List.of(small));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+        assertThrows(IOException.class, () -> OpeningBook.open(file));
+        assertThrows(IllegalArgumentException.class, () -> OpeningBook.write(file, 0, List.of(small)));
+    }
+
+    @Test
+    void testRejectsCorruptTrees(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("book.bin");
+        OpeningBook.write(file, 2, List.of(small));
+        byte[] bytes = Files.readAllBytes(file);
+        // One book entry, then nodes of a guess and 10 child slots (3 pegs)
+        int root = 12 + 20, nodeBytes = 4 + 4 * Scoring.slots(3);
+        int[][] corruptions = {
+                {root + 4, 9999},                                       // child past the last node
+                {root + nodeBytes + 4, 1},                              // node 1 is its own child
+                {root, Scoring.encode(new int[]{0, 4, 0})},             // color 4 of a 4 color game
+                {root, Scoring.encode(new int[]{0, 0, 0, 1})},          // a fourth peg
+                {root + 4 + 4 * Scoring.slot(Scoring.feedback(3, 0), 3), 1}, // child after a win
+                {root + nodeBytes + 4, 2},                              // node 2 under two parents, past the last ply
+        };
+        for (int[] corruption : corruptions) {
+            ByteBuffer data = ByteBuffer.wrap(bytes.clone()).putInt(corruption[0], corruption[1]);
+            Files.write(file, data.array());
+            assertThrows(IOException.class, () -> OpeningBook.open(file), "at " + corruption[0]);
+        }
+
+        Files.write(file, bytes);
+        OpeningBook book = OpeningBook.open(file);
+        int first = book.nextGuess(small, new int[0], new int[0]);
+        // Feedback that can't happen with 3 pegs is off the book rather than a read past the node
+        assertEquals(-1, book.nextGuess(small, new int[]{first}, new int[]{Scoring.feedback(2, 2)}));
+        assertEquals(-1, book.nextGuess(small, new int[]{first}, new int[]{-1}));
+    }
+
+    @Test
+    void testMainWritesABook(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("book.bin");
+        OpeningBook.main(new String[]{file.toString(), "2", "4x3", "3x2"});
+        OpeningBook book = OpeningBook.open(file);
+        assertTrue(book.covers(new CodeSpace(3, 2)));
+        assertTrue(book.covers(small));
+    }
+}
@@ -0,0 +1,61 @@
+import org.example.QuantileSketch;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    @Test
+    void testQuantilesWithinAccuracy() {
+        SplittableRandom random = new SplittableRandom(5);
+        long[] values = new long[100_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            // Long tailed like think times
+            values[i] = (long) Math.exp(random.nextDouble() * 15);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+        for (double q : new double[]{0.01, 0.25, 0.5, 0.9, 0.99, 0.999, 1}) {
+            long exact = values[(int) Math.max(0, Math.ceil(q * values.length) - 1)];
+            assertEquals(exact, sketch.quantile(q), exact * QuantileSketch.ACCURACY, "q=" + q);
+        }
+        assertEquals(values[values.length - 1], sketch.getMax());
+        assertEquals(values.length, sketch.getCount());
+    }
+
+    @Test
+    void testMergeIsOrderIndependent() {
+        SplittableRandom random = new SplittableRandom(6);
+        QuantileSketch whole = new QuantileSketch(), a = new QuantileSketch(), b = new QuantileSketch();
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong(-10, 1_000_000);
+            whole.add(value);
+            (i % 3 == 0 ? a : b).add(value);
+        }
+        QuantileSketch ab = new QuantileSketch().merge(a).merge(b);
+        QuantileSketch ba = new QuantileSketch().merge(b).merge(a);
+        for (double q = 0; q <= 1; q += 0.05) {
+            assertEquals(whole.quantile(q), ab.quantile(q));
+            assertEquals(whole.quantile(q), ba.quantile(q));
+        }
+        assertEquals(whole.getCount(), ab.getCount());
+        assertEquals(whole.getMax(), ba.getMax());
+    }
+
+    @Test
+    void testEdgeCases() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertEquals(0, sketch.quantile(0.5));
+        sketch.add(0);
+        sketch.add(-5);
+        assertEquals(0, sketch.quantile(1));
+        sketch.add(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, sketch.quantile(1), Long.MAX_VALUE * QuantileSketch.ACCURACY);
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(-0.1));
+    }
+}
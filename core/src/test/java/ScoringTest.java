@@ -0,0 +1,223 @@
+import org.example.Scoring;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringTest {
+
+    // Reference scoring using the original list-based algorithm
+    private int referenceScore(int[] guess, int[] secret) {
+        int blacks = 0;
+        int whites = 0;
+        ArrayList<Integer> guessSlots = new ArrayList<>();
+        ArrayList<Integer> secretSlots = new ArrayList<>();
+        for (int i = 0; i < secret.length; i++) {
+            if (guess[i] == secret[i]) {
+                blacks++;
+            } else {
+                guessSlots.add(guess[i]);
+                secretSlots.add(secret[i]);
+            }
+        }
+        for (Integer g : guessSlots) {
+            if (secretSlots.remove(g)) {
+                whites++;
+            }
+        }
+        return Scoring.feedback(blacks, whites);
+    }
+
+    private int[] randomCode(Random random, int colors, int pegs) {
+        int[] code = new int[pegs];
+        for (int i = 0; i < pegs; i++) {
+            code[i] = random.nextInt(colors);
+        }
+        return code;
+    }
+
+    @Test
+    void testFeedbackPacking() {
+        int feedback = Scoring.feedback(3, 1);
+        assertEquals(3, Scoring.blacks(feedback));
+        assertEquals(1, Scoring.whites(feedback));
+        assertEquals(0, Scoring.feedback(0, 0));
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        int[] indices = {5, 0, 15, 3, 7, 7, 1, 12};
+        int code = Scoring.encode(indices);
+        assertArrayEquals(indices, Scoring.decode(code, indices.length));
+        assertEquals(15, Scoring.peg(code, 2));
+    }
+
+    @Test
+    void testIsCode() {
+        assertTrue(Scoring.isCode(Scoring.encode(new int[]{5, 0, 3, 1}), 6, 4));
+        assertFalse(Scoring.isCode(Scoring.encode(new int[]{5, 0, 6, 1}), 6, 4));
+        assertFalse(Scoring.isCode(Scoring.encode(new int[]{5, 0, 3, 1, 1}), 6, 4));
+        assertTrue(Scoring.isCode(Scoring.encode(new int[]{15, 15, 15, 15, 15, 15, 15, 15}), 16, 8));
+    }
+
+    @Test
+    void testFits() {
+        assertTrue(Scoring.fits(6, 4));
+        assertTrue(Scoring.fits(16, 8));
+        assertFalse(Scoring.fits(17, 4));
+        assertFalse(Scoring.fits(6, 9));
+    }
+
+    @Test
+    void testPackedScoreKnownCases() {
+        int secret = Scoring.encode(new int[]{0, 0, 1, 2});
+        assertEquals(Scoring.feedback(4, 0), Scoring.score(secret, secret, 4));
+        assertEquals(Scoring.feedback(2, 1), Scoring.score(Scoring.encode(new int[]{0, 3, 0, 2}), secret, 4));
+        assertEquals(Scoring.feedback(0, 4), Scoring.score(Scoring.encode(new int[]{1, 2, 0, 0}), secret, 4));
+        assertEquals(Scoring.feedback(0, 0), Scoring.score(Scoring.encode(new int[]{3, 4, 5, 3}), secret, 4));
+    }
+
+    @Test
+    void testPackedScoreSameColorEverywhere() {
+        int code = Scoring.encode(new int[]{15, 15, 15, 15, 15, 15, 15, 15});
+        assertEquals(Scoring.feedback(8, 0), Scoring.score(code, code, 8));
+        int other = Scoring.encode(new int[]{9, 9, 9, 9, 9, 9, 9, 15});
+        assertEquals(Scoring.feedback(1, 0), Scoring.score(other, code, 8));
+    }
+
+    @Test
+    void testPackedScoreMatchesReference() {
+        Random random = new Random(42);
+        for (int n = 0; n < 20000; n++) {
+            int colors = 1 + random.nextInt(Scoring.MAX_COLORS);
+            int pegs = 1 + random.nextInt(Scoring.MAX_PEGS);
+            int[] guess = randomCode(random, colors, pegs);
+            int[] secret = randomCode(random, colors, pegs);
+            assertEquals(referenceScore(guess, secret),
+                    Scoring.score(Scoring.encode(guess), Scoring.encode(secret), pegs));
+        }
+    }
+
+    @Test
+    void testIndexScoreMatchesReference() {
+        Random random = new Random(7);
+        for (int n = 0; n < 5000; n++) {
+            int colors = 1 + random.nextInt(30);
+            int pegs = 1 + random.nextInt(20);
+            int[] guess = randomCode(random, colors, pegs);
+            int[] secret = randomCode(random, colors, pegs);
+            assertEquals(referenceScore(guess, secret), Scoring.score(guess, secret));
+        }
+    }
+
+    @Test
+    void testIndexScoreAtTheLongestCode() {
+        int pegs = Scoring.MAX_ARRAY_PEGS;
+        int[] secret = new int[pegs];
+        int[] rotated = new int[pegs];
+        for (int i = 0; i < pegs; i++) {
+            secret[i] = i;
+            rotated[i] = (i + 1) % pegs;
+        }
+        // Every peg white: the largest whites count the packed feedback has to hold
+        assertEquals(Scoring.feedback(0, pegs), Scoring.score(rotated, secret));
+        assertEquals(0, Scoring.blacks(Scoring.score(rotated, secret)));
+        assertEquals(pegs, Scoring.whites(Scoring.score(rotated, secret)));
+        assertEquals(pegs, Scoring.blacks(Scoring.score(secret, secret)));
+        assertEquals(referenceScore(rotated, secret), Scoring.score(rotated, secret));
+    }
+
+    @Test
+    void testIndexScoreRejectsTooManyPegs() {
+        int[] code = new int[Scoring.MAX_ARRAY_PEGS + 1];
+        assertThrows(IllegalArgumentException.class, () -> Scoring.score(code, code));
+    }
+
+    @Test
+    void testScoreAllMatchesSingleScores() {
+        Random random = new Random(11);
+        for (int pegs = 1; pegs <= Scoring.MAX_PEGS; pegs++) {
+            int colors = 2 + random.nextInt(Scoring.MAX_COLORS - 1);
+            int guess = Scoring.encode(randomCode(random, colors, pegs));
+            int[] secrets = new int[500];
+            for (int i = 0; i < secrets.length; i++) {
+                secrets[i] = Scoring.encode(randomCode(random, colors, pegs));
+            }
+
+            int[] out = new int[secrets.length];
+            Scoring.scoreAll(guess, secrets, secrets.length, pegs, out);
+
+            for (int i = 0; i < secrets.length; i++) {
+                assertEquals(Scoring.score(guess, secrets[i], pegs), out[i]);
+            }
+        }
+    }
+
+    @Test
+    void testScoreAllOnlyWritesCountEntries() {
+        int[] secrets = {Scoring.encode(new int[]{1, 2}), Scoring.encode(new int[]{2, 1}), 0};
+        int[] out = {-1, -1, -1};
+        Scoring.scoreAll(Scoring.encode(new int[]{1, 2}), secrets, 2, 2, out);
+
+        assertEquals(Scoring.feedback(2, 0), out[0]);
+        assertEquals(Scoring.feedback(0, 2), out[1]);
+        assertEquals(-1, out[2]);
+    }
+
+    @Test
+    void testLongEncodeDecodeRoundTrip() {
+        int[] indices = {5, 0, 15, 3, 7, 7, 1, 12, 9, 15, 2, 0, 4, 11, 8, 6};
+        long code = Scoring.encodeLong(indices);
+        assertArrayEquals(indices, Scoring.decode(code, indices.length));
+        assertEquals(15, Scoring.peg(code, 9));
+        assertEquals(6, Scoring.peg(code, 15));
+        assertTrue(Scoring.fitsLong(16, 16));
+        assertFalse(Scoring.fitsLong(17, 16));
+        assertFalse(Scoring.fitsLong(16, 17));
+    }
+
+    @Test
+    void testLongScoreOneColorOnEveryPeg() {
+        int pegs = Scoring.MAX_LONG_PEGS;
+        Random random = new Random(3);
+        // 16 pegs of color 0, 14 or 15, against themselves, other single colors and mixed codes
+        for (int color : new int[]{0, 14, 15}) {
+            int[] single = new int[pegs];
+            Arrays.fill(single, color);
+            int[][] others = {single, randomCode(random, 16, pegs), randomCode(random, 2, pegs), new int[pegs]};
+            others[2][0] = color;
+            for (int[] other : others) {
+                assertEquals(referenceScore(single, other),
+                        Scoring.scoreLong(Scoring.encodeLong(single), Scoring.encodeLong(other), pegs));
+                assertEquals(referenceScore(other, single),
+                        Scoring.scoreLong(Scoring.encodeLong(other), Scoring.encodeLong(single), pegs));
+            }
+        }
+    }
+
+    @Test
+    void testLongScoreMatchesReference() {
+        Random random = new Random(21);
+        for (int n = 0; n < 20000; n++) {
+            int colors = 1 + random.nextInt(Scoring.MAX_COLORS);
+            int pegs = 1 + random.nextInt(Scoring.MAX_LONG_PEGS);
+            int[] guess = randomCode(random, colors, pegs);
+            int[] secret = randomCode(random, colors, pegs);
+            assertEquals(referenceScore(guess, secret),
+                    Scoring.scoreLong(Scoring.encodeLong(guess), Scoring.encodeLong(secret), pegs));
+        }
+    }
+
+    @Test
+    void testLongScoreAgreesWithIntScoreOnShortCodes() {
+        int guess = Scoring.encode(new int[]{0, 3, 0, 2});
+        int secret = Scoring.encode(new int[]{0, 0, 1, 2});
+        assertEquals(Scoring.score(guess, secret, 4), Scoring.scoreLong(guess, secret, 4));
+
+        long all = Scoring.encodeLong(new int[]{15, 15, 15, 15, 15, 15, 15, 15, 15, 15, 15, 15, 15, 15, 15, 15});
+        assertEquals(Scoring.feedback(16, 0), Scoring.scoreLong(all, all, 16));
+    }
+}
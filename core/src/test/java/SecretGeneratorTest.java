@@ -0,0 +1,65 @@
+import org.example.CodeSpace;
+import org.example.SecretGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecretGeneratorTest {
+
+    private final CodeSpace space = new CodeSpace(6, 4);
+
+    private int[] generateOn(int threads, long seed, int count) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> SecretGenerator.generate(space, seed, count)).get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSameSeedSameSecretsWhateverTheThreadCount() throws Exception {
+        int count = 100_000;
+        int[] single = generateOn(1, 42, count);
+        assertArrayEquals(single, generateOn(3, 42, count));
+        assertArrayEquals(single, generateOn(8, 42, count));
+        assertArrayEquals(single, SecretGenerator.generate(space, 42, count));
+    }
+
+    @Test
+    void testDifferentSeedsDiffer() {
+        assertFalse(Arrays.equals(
+                SecretGenerator.generate(space, 1, 1000),
+                SecretGenerator.generate(space, 2, 1000)));
+    }
+
+    @Test
+    void testSecretsAreValidAndSpreadOverTheSpace() {
+        int[] secrets = SecretGenerator.generate(space, 7, 1296 * 50);
+        int[] hits = new int[space.getSize()];
+        for (int secret : secrets) {
+            int rank = space.rank(secret);
+            assertEquals(secret, space.code(rank));
+            hits[rank]++;
+        }
+        for (int h : hits) {
+            // 50 expected per code, a generous band keeps the test deterministic for this seed
+            assertTrue(h > 15 && h < 100);
+        }
+    }
+
+    @Test
+    void testPrefixIsStableAcrossLengths() {
+        int[] shortRun = SecretGenerator.generate(space, 9, 20_000);
+        int[] longRun = SecretGenerator.generate(space, 9, 50_000);
+        assertArrayEquals(shortRun, Arrays.copyOf(longRun, shortRun.length));
+    }
+
+    @Test
+    void testEmptyOutput() {
+        assertEquals(0, SecretGenerator.generate(space, 1, 0).length);
+    }
+}
@@ -0,0 +1,71 @@
+import org.example.CodeSpace;
+import org.example.Game;
+import org.example.KnuthSolver;
+import org.example.Simulation;
+import org.example.Strategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationTest {
+
+    private final CodeSpace space = new CodeSpace(6, 4);
+
+    @Test
+    void testPlayUntilWon() {
+        Game game = new Game(space, space.code(1234), 10);
+        assertTrue(Simulation.play(game, new KnuthSolver(space)));
+        assertTrue(game.getRound() <= 5);
+    }
+
+    @Test
+    void testPlayUntilRoundLimit() {
+        Game game = new Game(space, space.code(1295), 3);
+        // Always guessing the same wrong code loses
+        assertFalse(Simulation.play(game, g -> space.code(0)));
+        assertEquals(3, game.getRound());
+    }
+
+    @Test
+    void testRunReportsEveryGame() {
+        Simulation.Report report = Simulation.run(space, 10, Strategy.firstCandidate(), 2000);
+
+        assertEquals(2000, report.games);
+        assertEquals(2000, report.wins);
+        assertTrue(report.averageGuesses() >= 1 && report.averageGuesses() <= 10);
+        assertTrue(report.gamesPerSecond() > 0);
+        assertTrue(report.toString().contains("2000 games"));
+    }
+
+    @Test
+    void testKnuthWinsEveryGameWithinFiveGuesses() {
+        Simulation.Report report = Simulation.run(space, 5, new KnuthSolver(space, null, null), 200);
+        assertEquals(200, report.wins);
+    }
+
+    @Test
+    void testFailingStrategyIsReported() {
+        Strategy broken = g -> {
+            throw new UnsupportedOperationException("broken");
+        };
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> Simulation.run(space, 10, broken, 10));
+        assertInstanceOf(UnsupportedOperationException.class, e.getCause());
+    }
+
+    @Test
+    void testMainRunsHeadless() {
+        assertDoesNotThrow(() -> Simulation.main(new String[]{"100", "first"}));
+        assertThrows(IllegalArgumentException.class, () -> Simulation.main(new String[]{"1", "unknown"}));
+    }
+
+    @Test
+    void testSameSeedReplaysSameGames() {
+        Simulation.Report first = Simulation.run(space, 10, Strategy.firstCandidate(), 500, 1234);
+        Simulation.Report second = Simulation.run(space, 10, Strategy.firstCandidate(), 500, 1234);
+
+        assertEquals(1234, first.seed);
+        assertEquals(first.guesses, second.guesses);
+        assertTrue(first.toString().contains("seed 1234"));
+    }
+}
@@ -0,0 +1,62 @@
+import org.example.CodeSpace;
+import org.example.Game;
+import org.example.KnuthSolver;
+import org.example.Simulation;
+import org.example.Strategy;
+import org.example.StrategyEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyEvaluatorTest {
+
+    private final CodeSpace space = new CodeSpace(6, 4);
+
+    @Test
+    void testKnuthMatchesThePublishedResult() {
+        StrategyEvaluator.Report report = StrategyEvaluator.evaluate(space, 10, new KnuthSolver(space));
+        assertEquals(1296, report.secrets);
+        assertEquals(0, report.lost);
+        assertEquals(5, report.worstCase());
+        assertEquals(5801.0 / 1296, report.averageGuesses(), 1e-12);
+        long[] expected = {0, 1, 6, 62, 533, 694};
+        for (int guesses = 1; guesses < expected.length; guesses++) {
+            assertEquals(expected[guesses], report.getWon(guesses));
+        }
+        assertTrue(report.toString().startsWith("1296 secrets, 4.4761 guesses/game, worst 5"));
+    }
+
+    @Test
+    void testTreeWalkMatchesPlayingEverySecret() {
+        Strategy strategy = Strategy.firstCandidate();
+        long[] won = new long[11];
+        long lost = 0;
+        for (int rank = 0; rank < space.getSize(); rank++) {
+            Game game = new Game(space, space.code(rank), 7);
+            if (Simulation.play(game, strategy)) {
+                won[game.getRound()]++;
+            } else {
+                lost++;
+            }
+        }
+        StrategyEvaluator.Report report = StrategyEvaluator.evaluate(space, 7, strategy, new ForkJoinPool(4));
+        assertEquals(lost, report.lost);
+        assertTrue(lost > 0);
+        for (int guesses = 0; guesses < won.length; guesses++) {
+            assertEquals(won[guesses], report.getWon(guesses));
+        }
+        assertEquals(7, report.worstCase());
+    }
+
+    @Test
+    void testNothingWonWithinTheRounds() {
+        StrategyEvaluator.Report report = StrategyEvaluator.evaluate(new CodeSpace(3, 2), 1, g -> 0);
+        assertEquals(9, report.secrets);
+        assertEquals(8, report.lost);
+        assertEquals(1, report.getWon(1));
+        assertEquals(1, report.worstCase());
+        assertEquals(1, report.averageGuesses());
+    }
+}
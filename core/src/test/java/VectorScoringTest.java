@@ -0,0 +1,69 @@
+import org.example.Scoring;
+import org.example.VectorScoring;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorScoringTest {
+
+    private int[] randomCodes(Random random, int count, int colors, int pegs) {
+        int[] codes = new int[count];
+        for (int i = 0; i < count; i++) {
+            int[] indices = new int[pegs];
+            for (int j = 0; j < pegs; j++) {
+                indices[j] = random.nextInt(colors);
+            }
+            codes[i] = Scoring.encode(indices);
+        }
+        return codes;
+    }
+
+    @Test
+    void testVectorModuleIsEnabledForTests() {
+        assertTrue(Scoring.VECTOR_ENABLED);
+        assertTrue(VectorScoring.laneCount() > 0);
+    }
+
+    @Test
+    void testMatchesScalarForAllSizes() {
+        Random random = new Random(5);
+        for (int pegs = 1; pegs <= Scoring.MAX_PEGS; pegs++) {
+            for (int colors : new int[]{1, 2, 6, 9, 16}) {
+                int[] secrets = randomCodes(random, 301, colors, pegs);
+                int guess = randomCodes(random, 1, colors, pegs)[0];
+
+                int[] expected = new int[secrets.length];
+                int[] actual = new int[secrets.length];
+                Scoring.scoreAllScalar(guess, secrets, secrets.length, pegs, expected);
+                VectorScoring.scoreAll(guess, secrets, secrets.length, pegs, actual);
+
+                assertArrayEquals(expected, actual, colors + " colors, " + pegs + " pegs");
+            }
+        }
+    }
+
+    @Test
+    void testTailShorterThanOneVector() {
+        int[] secrets = {Scoring.encode(new int[]{0, 1, 2, 3}), Scoring.encode(new int[]{3, 2, 1, 0})};
+        int[] out = new int[2];
+        VectorScoring.scoreAll(Scoring.encode(new int[]{0, 1, 2, 3}), secrets, 2, 4, out);
+
+        assertEquals(Scoring.feedback(4, 0), out[0]);
+        assertEquals(Scoring.feedback(0, 4), out[1]);
+    }
+
+    @Test
+    void testScoreAllDispatchMatchesScalar() {
+        Random random = new Random(9);
+        int[] secrets = randomCodes(random, 1296, 6, 4);
+        int[] expected = new int[secrets.length];
+        int[] actual = new int[secrets.length];
+
+        Scoring.scoreAllScalar(secrets[17], secrets, secrets.length, 4, expected);
+        Scoring.scoreAll(secrets[17], secrets, secrets.length, 4, actual);
+
+        assertArrayEquals(expected, actual);
+    }
+}
@@ -1,40 +0,0 @@
-package org.example;
-
-import javax.swing.*;
-import java.awt.*;
-
-public class Circle extends JButton {
-    private Color color;
-    private final int diameter;
-
-    public Circle(Color color, int diameter, boolean clickable) {
-        this.color = color;
-        this.diameter = diameter;
-        setContentAreaFilled(false);
-        setBorderPainted(false);
-        setFocusPainted(false);
-        setOpaque(false);
-        setEnabled(clickable);
-    }
-
-    @Override
-    public void paintComponent(Graphics g) {
-        g.setColor(color);
-        g.fillOval(0, 0, diameter, diameter);
-        super.paintComponent(g);
-    }
-
-    @Override
-    public Dimension getPreferredSize() {
-        return new Dimension(diameter, diameter);
-    }
-
-    public void setCircleColor(Color c) {
-        this.color = c;
-        repaint();
-    }
-
-    public Color getColor() {
-        return color;
-    }
-}
\ No newline at end of file
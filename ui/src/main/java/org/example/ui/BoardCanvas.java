@@ -0,0 +1,105 @@
+package org.example.ui;
+
+import javax.swing.*;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+// Board view that is a single component: the whole grid is painted by RowPainter, no child Circles
+// and no per-slot listeners. A click is mapped to (row, slot) with a division, and a model change
+// repaints just the strip of the changed rows. Only rows inside the clip are painted.
+public class BoardCanvas extends JComponent implements Scrollable {
+    private final BoardModel MODEL;
+    private final RowPainter PAINTER;
+    private final int VISIBLE_ROWS;
+
+    public BoardCanvas(BoardModel model, RowPainter painter, int visibleRows) {
+        this.MODEL = model;
+        this.PAINTER = painter;
+        this.VISIBLE_ROWS = Math.min(visibleRows, model.getRounds());
+        setOpaque(true);
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                int row = e.getY() / PAINTER.rowHeight;
+                if (e.getY() >= 0 && row < MODEL.getRounds()) {
+                    MODEL.click(row, PAINTER.slotAt(e.getX(), e.getY() - row * PAINTER.rowHeight));
+                }
+            }
+        });
+        model.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                revalidate();
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                revalidate();
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                repaint(rowBounds(e.getIndex0(), e.getIndex1()));
+            }
+        });
+    }
+
+    // Area covered by rows first..last
+    public Rectangle rowBounds(int first, int last) {
+        return new Rectangle(0, first * PAINTER.rowHeight, PAINTER.width, (last - first + 1) * PAINTER.rowHeight);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(getSize());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int first = Math.max(0, clip.y / PAINTER.rowHeight);
+        int last = Math.min(MODEL.getRounds() - 1, (clip.y + clip.height - 1) / PAINTER.rowHeight);
+        for (int row = first; row <= last; row++) {
+            PAINTER.paint(g, MODEL, row, row * PAINTER.rowHeight);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(PAINTER.width, MODEL.getRounds() * PAINTER.rowHeight);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(PAINTER.width, VISIBLE_ROWS * PAINTER.rowHeight);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? PAINTER.rowHeight : 10;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    public BoardModel getBoardModel() {
+        return MODEL;
+    }
+}
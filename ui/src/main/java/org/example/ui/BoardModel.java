@@ -0,0 +1,168 @@
+package org.example.ui;
+
+import javax.swing.*;
+import java.util.Arrays;
+
+// Board state as plain data: one palette index per slot and one packed feedback per row.
+// It is a ListModel with one element per row, so views get row-granular change events and only the
+// rows that changed are repainted. Views turn clicks into click(row, slot) and never touch Circles.
+// Changes made inside update(...) are coalesced into one event covering every row they touched.
+public class BoardModel extends AbstractListModel<Integer> {
+    public static final int EMPTY = -1;
+    public static final int NO_FEEDBACK = -1;
+
+    private final int ROUNDS;
+    private final int PEGS;
+    private final byte[] pegs;
+    private final int[] feedbacks;
+    private int currentRow = 0;
+    private int selectedColor = EMPTY;
+    // Open update(...) calls and the rows they changed so far
+    private int updateDepth = 0;
+    private int dirtyFirst = Integer.MAX_VALUE, dirtyLast = -1;
+
+    public BoardModel(int rounds, int pegs) {
+        if (rounds < 1 || pegs < 1) {
+            throw new IllegalArgumentException("A board needs at least one round and one peg");
+        }
+        this.ROUNDS = rounds;
+        this.PEGS = pegs;
+        this.pegs = new byte[rounds * pegs];
+        this.feedbacks = new int[rounds];
+        Arrays.fill(this.pegs, (byte) EMPTY);
+        Arrays.fill(feedbacks, NO_FEEDBACK);
+    }
+
+    // Colors a slot with the selected color, only slots of the current row can be colored
+    public boolean click(int row, int slot) {
+        if (row != currentRow || selectedColor == EMPTY || slot < 0 || slot >= PEGS) {
+            return false;
+        }
+        setPeg(row, slot, selectedColor);
+        return true;
+    }
+
+    public int getPeg(int row, int slot) {
+        return pegs[row * PEGS + slot];
+    }
+
+    public void setPeg(int row, int slot, int color) {
+        if (color > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Palette index out of range: " + color);
+        }
+        pegs[row * PEGS + slot] = (byte) color;
+        rowsChanged(row, row);
+    }
+
+    public boolean isRowFilled(int row) {
+        if (row < 0 || row >= ROUNDS) {
+            throw new IllegalArgumentException("Row out of range: " + row);
+        }
+        for (int i = row * PEGS; i < (row + 1) * PEGS; i++) {
+            if (pegs[i] == EMPTY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Palette indices of a row
+    public int[] getRow(int row) {
+        int[] indices = new int[PEGS];
+        for (int i = 0; i < PEGS; i++) {
+            indices[i] = pegs[row * PEGS + i];
+        }
+        return indices;
+    }
+
+    // Fills a whole row with palette indices as one change
+    public void setRow(int row, int[] colors) {
+        update(() -> {
+            for (int i = 0; i < PEGS; i++) {
+                setPeg(row, i, colors[i]);
+            }
+        });
+    }
+
+    // Records a row's feedback and moves play to the next row as one change
+    public void completeRow(int row, int feedback) {
+        update(() -> {
+            setFeedback(row, feedback);
+            setCurrentRow(row + 1);
+        });
+    }
+
+    // Runs a batch of changes and notifies listeners once, with the range of rows that changed
+    public void update(Runnable changes) {
+        updateDepth++;
+        try {
+            changes.run();
+        } finally {
+            if (--updateDepth == 0 && dirtyLast >= 0) {
+                int first = dirtyFirst, last = dirtyLast;
+                dirtyFirst = Integer.MAX_VALUE;
+                dirtyLast = -1;
+                fireContentsChanged(this, first, last);
+            }
+        }
+    }
+
+    private void rowsChanged(int first, int last) {
+        if (updateDepth > 0) {
+            dirtyFirst = Math.min(dirtyFirst, first);
+            dirtyLast = Math.max(dirtyLast, last);
+        } else {
+            fireContentsChanged(this, first, last);
+        }
+    }
+
+    public int getFeedback(int row) {
+        return feedbacks[row];
+    }
+
+    public void setFeedback(int row, int feedback) {
+        feedbacks[row] = feedback;
+        rowsChanged(row, row);
+    }
+
+    public int getCurrentRow() {
+        return currentRow;
+    }
+
+    public void setCurrentRow(int row) {
+        int previous = currentRow;
+        this.currentRow = row;
+        if (previous < ROUNDS) {
+            rowsChanged(previous, previous);
+        }
+        if (row < ROUNDS) {
+            rowsChanged(row, row);
+        }
+    }
+
+    public int getSelectedColor() {
+        return selectedColor;
+    }
+
+    public void setSelectedColor(int color) {
+        this.selectedColor = color;
+    }
+
+    public int getRounds() {
+        return ROUNDS;
+    }
+
+    public int getPegs() {
+        return PEGS;
+    }
+
+    @Override
+    public int getSize() {
+        return ROUNDS;
+    }
+
+    @Override
+    public Integer getElementAt(int index) {
+        return index;
+    }
+}
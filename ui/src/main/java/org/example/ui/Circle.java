@@ -0,0 +1,74 @@
+package org.example.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Objects;
+
+public class Circle extends JButton {
+    private Color color;
+    private final int diameter;
+
+    public Circle(Color color, int diameter, boolean clickable) {
+        this.color = color;
+        this.diameter = diameter;
+        setContentAreaFilled(false);
+        setBorderPainted(false);
+        setFocusPainted(false);
+        setOpaque(false);
+        setEnabled(clickable);
+    }
+
+    @Override
+    public void paintComponent(Graphics g) {
+        // Blit the cached sprite, the button itself only needs painting if it was given text or an icon
+        CircleSprites.paint(g, color, diameter, 0, 0);
+        if (!getText().isEmpty() || getIcon() != null) {
+            super.paintComponent(g);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(diameter, diameter);
+    }
+
+    public void setCircleColor(Color c) {
+        this.color = c;
+        repaint();
+    }
+
+    // Recolors several circles at once with a single repaint covering all the changed ones
+    public static void setCircleColors(Circle[] circles, Color[] colors) {
+        Rectangle dirty = null;
+        Container parent = null;
+        boolean sameParent = true;
+        for (int i = 0; i < circles.length; i++) {
+            Circle circle = circles[i];
+            if (Objects.equals(circle.color, colors[i])) {
+                continue;
+            }
+            circle.color = colors[i];
+            if (dirty == null) {
+                dirty = circle.getBounds();
+                parent = circle.getParent();
+            } else {
+                dirty.add(circle.getBounds());
+                sameParent &= circle.getParent() == parent;
+            }
+        }
+        if (dirty == null) {
+            return;
+        }
+        if (parent != null && sameParent) {
+            parent.repaint(dirty.x, dirty.y, dirty.width, dirty.height);
+        } else {
+            for (Circle circle : circles) {
+                circle.repaint();
+            }
+        }
+    }
+
+    public Color getColor() {
+        return color;
+    }
+}
\ No newline at end of file
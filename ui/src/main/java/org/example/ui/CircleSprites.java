@@ -0,0 +1,81 @@
+package org.example.ui;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Cache of pre-rendered, antialiased circles keyed by color, diameter and device scale.
+// Each combination is drawn once into a compatible image, after that painting a peg or pin is a blit.
+public final class CircleSprites {
+    // A board only uses a handful of colors and sizes, the cap just guards against unbounded growth
+    // by dropping the least recently used sprite. Access order makes every lookup a write, hence the locking.
+    private static final int MAX_SPRITES = 256;
+    private static final Map<Long, BufferedImage> SPRITES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > MAX_SPRITES;
+        }
+    };
+
+    private CircleSprites() {
+    }
+
+    // Draws a circle of the given diameter with its top left corner at (x, y).
+    // A null color keeps the color of the graphics, as Graphics.setColor(null) does, so it isn't cached.
+    public static void paint(Graphics g, Color color, int diameter, int x, int y) {
+        if (diameter <= 0) {
+            return;
+        }
+        if (color == null) {
+            g.fillOval(x, y, diameter, diameter);
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g;
+        g2.drawImage(get(g2, color, diameter), x, y, diameter, diameter, null);
+    }
+
+    // Sprite for a color and diameter, rendered at the scale of the target graphics so it stays sharp
+    public static BufferedImage get(Graphics2D g, Color color, int diameter) {
+        AffineTransform transform = g.getTransform();
+        int scale = (int) Math.round(Math.max(transform.getScaleX(), 1) * 100);
+        long key = (long) scale << 48 | (long) (diameter & 0xFFFF) << 32 | color.getRGB() & 0xFFFFFFFFL;
+
+        synchronized (SPRITES) {
+            BufferedImage sprite = SPRITES.get(key);
+            if (sprite == null) {
+                sprite = render(g.getDeviceConfiguration(), color, (int) Math.ceil(diameter * scale / 100.0));
+                SPRITES.put(key, sprite);
+            }
+            return sprite;
+        }
+    }
+
+    public static int size() {
+        synchronized (SPRITES) {
+            return SPRITES.size();
+        }
+    }
+
+    public static void clear() {
+        synchronized (SPRITES) {
+            SPRITES.clear();
+        }
+    }
+
+    private static BufferedImage render(GraphicsConfiguration config, Color color, int pixels) {
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(pixels, pixels, Transparency.TRANSLUCENT)
+                : new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(color);
+            g.fillOval(0, 0, pixels, pixels);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
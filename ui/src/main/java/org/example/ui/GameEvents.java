@@ -0,0 +1,147 @@
+package org.example.ui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.StackTrace;
+
+import javax.swing.*;
+import java.awt.Component;
+
+// Flight Recorder events of the game, recorded with e.g. jcmd <pid> JFR.start filename=game.jfr.
+// Callers begin() an event, end() it and only fill in and commit() when shouldCommit(), so a JVM that
+// isn't recording pays for little more than the checks, and the JIT drops the unused event object.
+public final class GameEvents {
+
+    private static boolean repaintTiming;
+    // Repaint manager to go back to when the last recording stops, only touched on the EDT
+    private static RepaintManager untimedManager;
+
+    private GameEvents() {
+    }
+
+    // Swaps in the TimedRepaintManager while a recording is running and the default one otherwise,
+    // so paint passes are only wrapped in events when someone records them. Later calls do nothing.
+    public static synchronized void installRepaintTiming() {
+        if (repaintTiming) {
+            return;
+        }
+        repaintTiming = true;
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                boolean running = isRecording(recorder);
+                SwingUtilities.invokeLater(() -> timeRepaints(running));
+            }
+
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                boolean running = isRecording(FlightRecorder.getFlightRecorder());
+                SwingUtilities.invokeLater(() -> timeRepaints(running));
+            }
+        });
+    }
+
+    private static boolean isRecording(FlightRecorder recorder) {
+        for (Recording recording : recorder.getRecordings()) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void timeRepaints(boolean running) {
+        RepaintManager current = RepaintManager.currentManager((Component) null);
+        if (running && !(current instanceof TimedRepaintManager)) {
+            untimedManager = current;
+            RepaintManager.setCurrentManager(new TimedRepaintManager());
+        } else if (!running && current instanceof TimedRepaintManager) {
+            RepaintManager.setCurrentManager(untimedManager);
+        }
+    }
+
+    @Name("org.example.CheckGuess")
+    @Label("Check Guess")
+    @Category({"MasterMind", "Logic"})
+    @Description("A guess scored by MasterMindLogic.checkGuess")
+    @StackTrace(false)
+    public static class CheckGuess extends Event {
+        @Label("Secret Length")
+        public int secretLength;
+        @Label("Blacks")
+        public int blacks;
+        @Label("Whites")
+        public int whites;
+    }
+
+    @Name("org.example.GenerateSecret")
+    @Label("Generate Secret")
+    @Category({"MasterMind", "Logic"})
+    @StackTrace(false)
+    public static class GenerateSecret extends Event {
+        @Label("Secret Length")
+        public int secretLength;
+        @Label("Colors")
+        public int colors;
+    }
+
+    @Name("org.example.GameStart")
+    @Label("Game Start")
+    @Category({"MasterMind", "Game"})
+    public static class GameStart extends Event {
+        @Label("Secret Length")
+        public int secretLength;
+        @Label("Colors")
+        public int colors;
+    }
+
+    @Name("org.example.GameEnd")
+    @Label("Game End")
+    @Category({"MasterMind", "Game"})
+    public static class GameEnd extends Event {
+        @Label("Won")
+        public boolean won;
+        @Label("Rounds Played")
+        public int rounds;
+    }
+
+    @Name("org.example.RowSubmit")
+    @Label("Row Submit")
+    @Category({"MasterMind", "UI"})
+    @Description("Check button handling on the EDT: scoring the row, updating the board and telling the player")
+    @StackTrace(false)
+    public static class RowSubmit extends Event {
+        @Label("Row")
+        public int row;
+        @Label("Blacks")
+        public int blacks;
+        @Label("Whites")
+        public int whites;
+    }
+
+    @Name("org.example.Repaint")
+    @Label("Repaint")
+    @Category({"MasterMind", "UI"})
+    @Description("One pass of the RepaintManager over the dirty regions of the frame")
+    @StackTrace(false)
+    public static class Repaint extends Event {
+    }
+
+    // Repaint manager that records how long each paint of the dirty regions holds the EDT
+    public static class TimedRepaintManager extends RepaintManager {
+        @Override
+        public void paintDirtyRegions() {
+            Repaint event = new Repaint();
+            event.begin();
+            super.paintDirtyRegions();
+            event.commit();
+        }
+    }
+}
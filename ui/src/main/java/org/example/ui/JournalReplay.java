@@ -0,0 +1,76 @@
+package org.example.ui;
+
+import org.example.GameJournal;
+import org.example.Scoring;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Path;
+
+// Plays every game of a GameJournal again through MasterMindLogic and counts the guesses whose
+// feedback differs from the recorded one, to audit journals and catch scoring regressions.
+// Usage: java -cp master-mind-game.jar org.example.ui.JournalReplay games.bin
+public class JournalReplay {
+
+    // Outcome of a replay
+    public static class Report {
+        public final long games, guesses, mismatches, nanos;
+
+        public Report(long games, long guesses, long mismatches, long nanos) {
+            this.games = games;
+            this.guesses = guesses;
+            this.mismatches = mismatches;
+            this.nanos = nanos;
+        }
+
+        public double gamesPerSecond() {
+            return games * 1e9 / Math.max(nanos, 1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d games, %d guesses, %d mismatches, %.0f games/s",
+                    games, guesses, mismatches, gamesPerSecond());
+        }
+    }
+
+    public static Report replay(Path file) throws IOException {
+        // One palette per color count, the journal only knows palette indices
+        Palette[] palettes = new Palette[Scoring.MAX_COLORS + 1];
+        long[] counts = new long[2];
+        long start = System.nanoTime();
+        long games = GameJournal.read(file, record -> {
+            Palette palette = palettes[record.colors];
+            if (palette == null) {
+                palette = palettes[record.colors] = indexPalette(record.colors);
+            }
+            MasterMindLogic logic = new MasterMindLogic(palette, Scoring.decode(record.secret, record.pegs));
+            for (int i = 0; i < record.getRounds(); i++) {
+                if (logic.score(Scoring.decode(record.guesses[i], record.pegs)) != record.feedbacks[i]) {
+                    counts[1]++;
+                }
+            }
+            counts[0] += record.getRounds();
+        });
+        return new Report(games, counts[0], counts[1], System.nanoTime() - start);
+    }
+
+    // Colors 0, 1, 2... labelled with hex digits
+    private static Palette indexPalette(int size) {
+        Color[] colors = new Color[size];
+        String[] labels = new String[size];
+        for (int i = 0; i < size; i++) {
+            colors[i] = new Color(i);
+            labels[i] = Integer.toHexString(i).toUpperCase();
+        }
+        return new Palette(colors, labels);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Report report = replay(Path.of(args.length > 0 ? args[0] : "games.bin"));
+        System.out.println(report);
+        if (report.mismatches > 0) {
+            System.exit(1);
+        }
+    }
+}
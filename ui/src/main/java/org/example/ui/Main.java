@@ -0,0 +1,83 @@
+package org.example.ui;
+
+import org.example.CodeSpace;
+import org.example.FeedbackMatrix;
+import org.example.GameJournal;
+import org.example.HintEngine;
+
+import javax.swing.*;
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class Main {
+    public static void main(String[] args) {
+
+        Color[] palette = {
+                new Color(240, 17, 17),
+                new Color(104, 227, 70),
+                new Color(45, 64, 189),
+                new Color(191, 83, 40),
+                new Color(242, 135, 34),
+                new Color(204, 94, 235)
+        };
+
+        String[] labels = {"R", "V", "A", "M", "N", "L"};
+        // -Dmastermind.rounds and -Dmastermind.pegs (up to 16) for longer games
+        int rounds = Integer.getInteger("mastermind.rounds", 10);
+        int secretLength = Integer.getInteger("mastermind.pegs", 4);
+
+        // Create logic, colors are mapped to palette indices once here
+        Palette registry = new Palette(palette, labels);
+        MasterMindLogic logic = new MasterMindLogic(registry, secretLength);
+
+        // Optional precomputed feedback table, e.g. -Dmastermind.feedbackMatrix=feedback-6x4.bin.
+        // A file that can't be read or written is no reason not to play: the table is computed in memory.
+        // Sizes without a matrix (more than 7 pegs) keep scoring directly.
+        String matrixFile = System.getProperty("mastermind.feedbackMatrix");
+        if (matrixFile != null && !FeedbackMatrix.supports(palette.length, secretLength)) {
+            System.err.println("No feedback matrix for " + palette.length + " colors and " + secretLength
+                    + " pegs, scoring directly");
+        } else if (matrixFile != null) {
+            CodeSpace space = new CodeSpace(palette.length, secretLength);
+            FeedbackMatrix matrix;
+            try {
+                matrix = FeedbackMatrix.open(Path.of(matrixFile), space);
+            } catch (IOException e) {
+                System.err.println("Couldn't use the feedback matrix file, computing it in memory: " + e);
+                matrix = FeedbackMatrix.compute(space);
+            }
+            logic.setFeedbackMatrix(matrix);
+        }
+
+        // Entropy hints for game sizes the engine can rank quickly, -Dmastermind.hints=false turns them off
+        if (HintEngine.supports(palette.length, secretLength) && Boolean.parseBoolean(System.getProperty("mastermind.hints", "true"))) {
+            logic.setHintEngine(new HintEngine(new CodeSpace(palette.length, secretLength)));
+        }
+
+        // Append-only record of played games, e.g. -Dmastermind.journal=games.bin (see JournalReplay)
+        String journalFile = System.getProperty("mastermind.journal");
+        if (journalFile != null) {
+            try {
+                GameJournal journal = GameJournal.open(Path.of(journalFile));
+                logic.setJournal(journal);
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        journal.close();
+                    } catch (IOException e) {
+                        System.err.println("Couldn't close the game journal: " + e);
+                    }
+                }));
+            } catch (IOException e) {
+                System.err.println("Couldn't open the game journal, this game won't be recorded: " + e);
+            }
+        }
+
+        // Create UI
+        if (StartupProbe.isEnabled()) {
+            SwingUtilities.invokeLater(() -> StartupProbe.firstFrame(palette, labels, rounds, logic));
+            return;
+        }
+        SwingUtilities.invokeLater(() -> new MasterMindUI(palette, labels, rounds, logic));
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.ui;
+
+import org.example.FeedbackMatrix;
+import org.example.GameJournal;
+import org.example.HintEngine;
+import org.example.MasterMindEngine;
+import org.example.Scoring;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// The UI's side of a game: maps colors to palette indices at the edge and plays them on a
+// MasterMindEngine, which holds the secret as indices. Also where the logic's JFR events are fired.
+public class MasterMindLogic {
+    private final Palette PALETTE;
+    private final MasterMindEngine ENGINE;
+
+    // Constructor
+    public MasterMindLogic(Color[] palette, int secretLength, String[] labels) {
+        this(new Palette(palette, labels), secretLength);
+    }
+
+    public MasterMindLogic(Palette palette, int secretLength) {
+        this(palette, secretLength, null);
+    }
+
+    // Game with a known secret, e.g. to replay a journal
+    public MasterMindLogic(Palette palette, Color[] secret) {
+        this(palette, palette.indicesOf(secret));
+    }
+
+    public MasterMindLogic(Palette palette, int[] secret) {
+        this(palette, secret.length, secret);
+    }
+
+    private MasterMindLogic(Palette palette, int secretLength, int[] secret) {
+        if (secretLength > Scoring.MAX_ARRAY_PEGS) {
+            throw new IllegalArgumentException("At most " + Scoring.MAX_ARRAY_PEGS + " pegs are supported");
+        }
+        this.PALETTE = palette;
+        this.ENGINE = new MasterMindEngine(palette.size(), secret != null ? secret : generateSecret(secretLength));
+    }
+
+    // Secret generator, returns palette indices
+    public int[] generateSecret(int secretLength) {
+        GameEvents.GenerateSecret event = new GameEvents.GenerateSecret();
+        event.begin();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] secret = new int[secretLength];
+        for (int i = 0; i < secretLength; i++) {
+            secret[i] = random.nextInt(PALETTE.size());
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.secretLength = secretLength;
+            event.colors = PALETTE.size();
+            event.commit();
+        }
+        return secret;
+    }
+
+    // Check guess and return the number of black and white pins
+    public Result checkGuess(Color[] guess) {
+        return checkGuess(PALETTE.indicesOf(guess));
+    }
+
+    // Same as checkGuess(Color[]) for a guess given as palette indices. The event times the scoring
+    // alone, queueing the guess for hints and the journal comes after it.
+    public Result checkGuess(int[] guess) {
+        GameEvents.CheckGuess event = new GameEvents.CheckGuess();
+        event.begin();
+        int feedback = ENGINE.score(guess);
+        event.end();
+        ENGINE.recordGuess(guess, feedback);
+        if (event.shouldCommit()) {
+            event.secretLength = ENGINE.getSecretLength();
+            event.blacks = Scoring.blacks(feedback);
+            event.whites = Scoring.whites(feedback);
+            event.commit();
+        }
+        return Result.of(feedback);
+    }
+
+    // Same as checkGuess, but returns the packed feedback (see Scoring)
+    public int score(Color[] guess) {
+        return ENGINE.score(PALETTE.indicesOf(guess));
+    }
+
+    // See MasterMindEngine for these and the setters below
+    public int score(int[] guess) {
+        return ENGINE.score(guess);
+    }
+
+    public int score(int guessCode) {
+        return ENGINE.score(guessCode);
+    }
+
+    public int score(long guessCode) {
+        return ENGINE.score(guessCode);
+    }
+
+    public void setFeedbackMatrix(FeedbackMatrix matrix) {
+        ENGINE.setFeedbackMatrix(matrix);
+    }
+
+    public void setHintEngine(HintEngine engine) {
+        ENGINE.setHintEngine(engine);
+    }
+
+    public void setJournal(GameJournal journal) {
+        ENGINE.setJournal(journal);
+    }
+
+    public void finish() throws IOException {
+        ENGINE.finish();
+    }
+
+    public boolean hasHints() {
+        return ENGINE.hasHints();
+    }
+
+    public HintEngine.Hint hint() {
+        return ENGINE.hint();
+    }
+
+    // Result structure
+    public static class Result {
+        public int blacks, whites;
+
+        public Result(int b, int w) {
+            blacks = b;
+            whites = w;
+        }
+
+        // Unpacks a feedback value produced by Scoring
+        public static Result of(int feedback) {
+            return new Result(Scoring.blacks(feedback), Scoring.whites(feedback));
+        }
+
+        public int packed() {
+            return Scoring.feedback(blacks, whites);
+        }
+    }
+
+    // Returns the correct answer as a String of labels. Example: RVLR
+    public String showSecret() {
+        return PALETTE.labels(ENGINE.getSecret());
+    }
+
+    // Secret in the palette's colors, for the UI
+    public Color[] getSECRET() {
+        int[] indices = ENGINE.getSecret();
+        Color[] secret = new Color[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            secret[i] = PALETTE.color(indices[i]);
+        }
+        return secret;
+    }
+
+    public int[] getSecretIndices() {
+        return ENGINE.getSecret();
+    }
+
+    public int getSecretLength() {
+        return ENGINE.getSecretLength();
+    }
+
+    public Palette getPalette() {
+        return PALETTE;
+    }
+
+    public MasterMindEngine getEngine() {
+        return ENGINE;
+    }
+
+    public long getSecretLongCode() {
+        return ENGINE.getSecretLongCode();
+    }
+
+    public int getSecretCode() {
+        return ENGINE.getSecretCode();
+    }
+}
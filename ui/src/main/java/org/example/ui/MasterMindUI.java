@@ -0,0 +1,522 @@
+package org.example.ui;
+
+import org.example.HintEngine;
+import org.example.Scoring;
+
+import java.awt.*;
+import javax.swing.*;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class MasterMindUI {
+
+    // ----- Constants -----
+    private static final int PIN_SIZE = 10;
+    private static final int GUESS_SIZE = 35;
+    private static final int BUTTON_SIZE = 50;
+    // Boards with more rounds than this use the virtualized board instead of one panel per row,
+    // -Dmastermind.board=components, =virtual or =canvas (single painted component) picks one
+    private static final int LARGE_BOARD_ROUNDS = 20;
+    private static final int VISIBLE_ROWS = 10;
+    // Code length used until a logic with a secret is set
+    private static final int DEFAULT_CODE_LENGTH = 4;
+    private static final int MESSAGE_MILLIS = 2500;
+    // Colors
+    private static final Color BG_COLOR = new Color(141, 69, 220);
+    public static final Color BASE_COLOR = new Color(187, 183, 172);
+    private Color selectedColor = null;
+    // Game logic
+    private MasterMindLogic LOGIC;
+
+    // Stores each row of guessed colors (one circle per peg)
+    private final ArrayList<Circle[]> guessRows = new ArrayList<>();
+
+    // Stores each row of feedback pins (black/white pins for each guess)
+    private final ArrayList<Circle[]> pinRows = new ArrayList<>();
+
+    private int currentRow = 0;
+    // Set once the GameEnd event of the current logic's game is committed
+    private boolean gameOver;
+    // Slots and pins per row, the secret length of the logic
+    private int pegs = DEFAULT_CODE_LENGTH;
+
+    // Board state for the model-backed boards, null while the board is made of Circle components
+    private BoardModel board;
+    private RowPainter rowPainter;
+    private JComponent boardView;
+
+    // In-frame messages, dialog() falls back to a modal JOptionPane until the frame has one
+    private NotificationOverlay notifications;
+
+    // Store constructor parameters for later use
+    private Color[] colors;
+    private String[] labels;
+    private int rounds;
+
+    // Default constructor (for testing)
+    public MasterMindUI() {
+    }
+
+    public void dialog(String message) {
+        if (notifications != null) {
+            notifications.post(message);
+        } else {
+            JOptionPane.showMessageDialog(null, message);
+        }
+    }
+
+    // Overlay that shows dialog() messages without blocking, installed as the frame's glass pane
+    public NotificationOverlay createNotificationOverlay() {
+        notifications = new NotificationOverlay(MESSAGE_MILLIS);
+        notifications.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 16));
+        return notifications;
+    }
+
+    // ----- Helper functions -----
+    // Create styled JButton
+    public JButton createStyledButton(String text, Color bg, int size) {
+        JButton b = new JButton(text);
+        b.setPreferredSize(new Dimension(size, size));
+        b.setBackground(bg);
+        b.setContentAreaFilled(true);
+        b.setBorderPainted(false);
+        b.setFocusPainted(false);
+        return b;
+    }
+
+    // Pin panel for feedback
+    public JPanel createPinPanel() {
+        JPanel pinPanel = new JPanel();
+        Circle[] pinArray = new Circle[pegs];
+
+        pinPanel.setBackground(BG_COLOR);
+        pinPanel.setLayout(new GridLayout(2, (pegs + 1) / 2, 5, 5));
+
+        for (int j = 0; j < pegs; j++) {
+            Circle pin = new Circle(BASE_COLOR, PIN_SIZE, false);
+            pinArray[j] = pin;
+            pinPanel.add(pin);
+        }
+
+        pinRows.add(pinArray);
+
+        return pinPanel;
+    }
+
+    // Guess slots panel
+    public JPanel createGuessPanel() {
+        JPanel guessPanel = new JPanel();
+        Circle[] guessArray = new Circle[pegs];
+        guessPanel.setBackground(BG_COLOR);
+        guessPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 5, 5));
+
+        for (int j = 0; j < pegs; j++) {
+            Circle slot = new Circle(BASE_COLOR, GUESS_SIZE, true);
+            guessArray[j] = slot;
+            int rowIndex = guessRows.size();  // save the row index before adding
+            slot.addActionListener(e -> {
+                // Only allow coloring the CURRENT row
+                if (rowIndex == currentRow && selectedColor != null) {
+                    slot.setCircleColor(selectedColor);
+                }
+            });
+
+            guessPanel.add(slot);
+        }
+        guessRows.add(guessArray);
+        return guessPanel;
+    }
+
+    // Round row,
+    public JPanel createRoundRow() {
+        JPanel roundPanel = new JPanel();
+        roundPanel.setBackground(BG_COLOR);
+        roundPanel.setLayout(new FlowLayout(FlowLayout.CENTER, 50, 0));
+
+        roundPanel.add(createPinPanel());
+        roundPanel.add(createGuessPanel());
+
+        return roundPanel;
+    }
+
+    // Label showing selected color
+    public JLabel createColorDisplayLabel(Color bg, int size) {
+        JLabel label = new JLabel("Selected", SwingConstants.CENTER);
+        label.setOpaque(true);
+        label.setBackground(bg);
+        label.setPreferredSize(new Dimension(size, size));
+        return label;
+    }
+
+    public void colorPins(Circle[] pins, MasterMindLogic.Result result) {
+        showPins(pins, result);
+        announce(result, currentRow);
+    }
+
+    // Sets a row's pins to the feedback with one repaint, a winning row keeps its pins
+    private void showPins(Circle[] pins, MasterMindLogic.Result result) {
+        if (result.blacks == pegs) {
+            return;
+        }
+        int blacks = result.blacks;
+        int whites = result.whites;
+        Color[] pinColors = new Color[pins.length];
+        for (int i = 0; i < pins.length; i++) {
+            if (blacks > 0) {
+                pinColors[i] = Color.BLACK;
+                blacks--;
+            } else if (whites > 0) {
+                pinColors[i] = Color.WHITE;
+                whites--;
+            } else {
+                pinColors[i] = pins[i].getColor();
+            }
+        }
+        Circle.setCircleColors(pins, pinColors);
+    }
+
+    // Tells the player the outcome of the guess in a row
+    private void announce(MasterMindLogic.Result result, int row) {
+        if (result.blacks == pegs) {
+            endGame(true, row);
+            saveGame();
+            dialog("You guessed it!");
+            return;
+        }
+        dialog("Black: " + result.blacks + ". White: " + result.whites);
+        if (row == rounds - 1) {
+            endGame(false, row);
+            saveGame();
+            dialog("You lost, the answer was: " + LOGIC.showSecret());
+        }
+    }
+
+    // Appends the finished game to the logic's journal, if it keeps one
+    private void saveGame() {
+        try {
+            LOGIC.finish();
+        } catch (IOException e) {
+            dialog("Couldn't save the game: " + e.getMessage());
+        }
+    }
+
+    // GameStart is fired here rather than by the logic, so only games that are played show up,
+    // not e.g. the ones JournalReplay goes through
+    private void startGame() {
+        gameOver = false;
+        if (LOGIC == null) {
+            return;
+        }
+        GameEvents.GameStart event = new GameEvents.GameStart();
+        if (event.shouldCommit()) {
+            event.secretLength = LOGIC.getSecretLength();
+            event.colors = LOGIC.getPalette().size();
+            event.commit();
+        }
+    }
+
+    // Fires GameEnd for the first outcome of the game only
+    private void endGame(boolean won, int row) {
+        if (gameOver) {
+            return;
+        }
+        gameOver = true;
+        GameEvents.GameEnd event = new GameEvents.GameEnd();
+        if (event.shouldCommit()) {
+            event.won = won;
+            event.rounds = row + 1;
+            event.commit();
+        }
+    }
+
+    private static void submitted(GameEvents.RowSubmit event, int row, MasterMindLogic.Result result) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.row = row;
+            event.blacks = result.blacks;
+            event.whites = result.whites;
+            event.commit();
+        }
+    }
+
+    // Check button for the model-backed boards, same flow as the Circle rows but on the BoardModel
+    private void checkBoardRow() {
+        if (currentRow >= rounds) {
+            return;
+        }
+        if (!board.isRowFilled(currentRow)) {
+            dialog("Please fill all slots before checking!");
+            return;
+        }
+        // The board already holds palette indices, so they go to the logic as they are
+        int[] indices = board.getRow(currentRow);
+
+        // Feedback and the move to the next row are one board update, done before telling the player
+        GameEvents.RowSubmit event = new GameEvents.RowSubmit();
+        event.begin();
+        MasterMindLogic.Result result = LOGIC.checkGuess(indices);
+        int row = currentRow++;
+        board.completeRow(row, result.blacks == pegs ? BoardModel.NO_FEEDBACK : result.packed());
+        announce(result, row);
+        submitted(event, row, result);
+        if (currentRow < rounds) {
+            // Both board views stack rows of the painter's height from the top
+            boardView.scrollRectToVisible(new Rectangle(0, currentRow * rowPainter.rowHeight,
+                    rowPainter.width, rowPainter.rowHeight));
+        }
+    }
+
+    // Tells the player the most informative guess for the current row
+    private void showHint() {
+        HintEngine.Hint hint = LOGIC.hint();
+        String code = LOGIC.getPalette().labels(Scoring.decode(hint.code, pegs));
+        dialog(String.format("Hint: %s (%.1f bits)", code, hint.bits));
+    }
+
+    // Bottom panel with colors & button
+    public JPanel createBottomPanel(Color[] colors, String[] labels) {
+        JPanel bottomPanel = new JPanel();
+        bottomPanel.setBackground(BG_COLOR);
+        bottomPanel.setLayout(new BorderLayout(10, 0));
+        bottomPanel.setBorder(BorderFactory.createEmptyBorder(20, 0, 0, 0));
+
+        JPanel controlPanel = new JPanel();
+        controlPanel.setBackground(BG_COLOR);
+        // Hints are offered when the logic has a hint engine for this game size
+        boolean hints = LOGIC != null && LOGIC.hasHints();
+        int controls = hints ? 3 : 2;
+        controlPanel.setLayout(new GridLayout(1, controls, 10, 0));
+        controlPanel.setPreferredSize(new Dimension(100 * controls, 50));
+
+        JButton checkBtn = createStyledButton("Check", BASE_COLOR, BUTTON_SIZE);
+        checkBtn.addActionListener(e -> {
+            if (board != null) {
+                checkBoardRow();
+                return;
+            }
+            if (currentRow >= guessRows.size()) {
+                // Rows of a lazily built board aren't there yet
+                return;
+            }
+            Circle[] currentGuess = guessRows.get(currentRow);
+
+            // Check if any slot is still BASE_COLOR
+            boolean allFilled = true;
+            for (Circle slot : currentGuess) {
+                if (BASE_COLOR.equals(slot.getColor())) {
+                    allFilled = false;
+                    break;
+                }
+            }
+
+            if (allFilled) {
+                Circle[] current = guessRows.get(currentRow);
+                Color[] colorsRound = new Color[current.length];
+
+                for (int i = 0; i < current.length; i++) {
+                    colorsRound[i] = current[i].getColor();
+                }
+
+                // Pins and the move to the next row are done before telling the player, so a modal
+                // dialog never shows a row that is scored but still current
+                GameEvents.RowSubmit event = new GameEvents.RowSubmit();
+                event.begin();
+                MasterMindLogic.Result result = LOGIC.checkGuess(colorsRound);
+                int row = currentRow++;
+                showPins(pinRows.get(row), result);
+                announce(result, row);
+                submitted(event, row, result);
+            } else {
+                // Show warning that row is incomplete
+                dialog("Please fill all slots before checking!");
+            }
+        });
+
+        JLabel selected = createColorDisplayLabel(BASE_COLOR, BUTTON_SIZE);
+
+        controlPanel.add(checkBtn);
+        controlPanel.add(selected);
+        if (hints) {
+            JButton hintBtn = createStyledButton("Hint", BASE_COLOR, BUTTON_SIZE);
+            hintBtn.addActionListener(e -> showHint());
+            controlPanel.add(hintBtn);
+        }
+
+        JPanel colorPanel = new JPanel();
+        colorPanel.setBackground(BG_COLOR);
+        colorPanel.setLayout(new GridLayout(1, colors.length, 0, 0));
+
+        for (int i = 0; i < colors.length; i++) {
+            JButton btn = createStyledButton(labels[i], colors[i], BUTTON_SIZE);
+            final Color chosen = colors[i];
+            final int index = i;
+            // Change the color of selected label
+            btn.addActionListener(e -> {
+                selectedColor = chosen;
+                selected.setBackground(selectedColor);
+                if (board != null) {
+                    board.setSelectedColor(index);
+                }
+            });
+
+            colorPanel.add(btn);
+        }
+
+        bottomPanel.add(colorPanel, BorderLayout.WEST);
+        bottomPanel.add(controlPanel, BorderLayout.EAST);
+
+        return bottomPanel;
+    }
+
+    // Initialize without creating frame (for testing)
+    public void initialize(Color[] colors, String[] labels, int rounds, MasterMindLogic logic) {
+        this.LOGIC = logic;
+        this.colors = colors;
+        this.labels = labels;
+        this.rounds = rounds;
+        this.pegs = codeLength(logic);
+        startGame();
+    }
+
+    // A logic without a secret yet (or a test double) keeps the classic length
+    private static int codeLength(MasterMindLogic logic) {
+        int length = logic == null ? 0 : logic.getSecretLength();
+        return length > 0 ? length : DEFAULT_CODE_LENGTH;
+    }
+
+    // Create and show the frame (separated from initialization)
+    public JFrame createAndShowFrame() {
+        if (colors == null || labels == null || LOGIC == null) {
+            throw new IllegalStateException("Must call initialize() before createAndShowFrame()");
+        }
+
+        // Paint passes show up as Repaint events while Flight Recorder is recording
+        GameEvents.installRepaintTiming();
+
+        // Main frame
+        JFrame frame = new JFrame("MasterMind");
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setContentPane(createContent());
+
+        // Messages are drawn over the board instead of in modal dialogs
+        frame.setGlassPane(createNotificationOverlay());
+
+        frame.pack();
+        frame.setVisible(true);
+
+        return frame;
+    }
+
+    // Frame content: the board with the color and check controls below it.
+    // A board of Circle rows is built by a later event so the frame can show first; until then a
+    // placeholder of the board's size holds its place. The model-backed boards are cheap and built now.
+    public JPanel createContent() {
+        JPanel content = new JPanel(new BorderLayout());
+        content.setBackground(BG_COLOR);
+        if (boardKind().equals("components")) {
+            JPanel holder = new JPanel(new BorderLayout());
+            holder.setBackground(BG_COLOR);
+            Dimension row = measureRoundRow();
+            holder.setPreferredSize(new Dimension(row.width, row.height * rounds));
+            SwingUtilities.invokeLater(() -> {
+                holder.add(createBoard());
+                holder.revalidate();
+                holder.repaint();
+            });
+            content.add(holder, BorderLayout.CENTER);
+        } else {
+            content.add(createBoard(), BorderLayout.CENTER);
+        }
+        content.add(createBottomPanel(colors, labels), BorderLayout.SOUTH);
+        return content;
+    }
+
+    // Size of one Circle row, measured on a throwaway row that is dropped again
+    private Dimension measureRoundRow() {
+        Dimension size = createRoundRow().getPreferredSize();
+        guessRows.removeLast();
+        pinRows.removeLast();
+        return size;
+    }
+
+    private String boardKind() {
+        return System.getProperty("mastermind.board", rounds > LARGE_BOARD_ROUNDS ? "virtual" : "components");
+    }
+
+    // Game board: one panel of Circles per round for normal games, or a BoardModel shown by a
+    // virtualized list (the default for long games) or a single painted canvas
+    public JComponent createBoard() {
+        String kind = boardKind();
+        if (kind.equals("virtual") || kind.equals("canvas")) {
+            board = new BoardModel(rounds, pegs);
+            rowPainter = new RowPainter(pegs, colors, BG_COLOR, BASE_COLOR);
+            boardView = kind.equals("canvas")
+                    ? new BoardCanvas(board, rowPainter, VISIBLE_ROWS)
+                    : new VirtualBoard(board, rowPainter, VISIBLE_ROWS);
+            boardView.setBackground(BG_COLOR);
+            if (selectedColor != null) {
+                board.setSelectedColor(Arrays.asList(colors).indexOf(selectedColor));
+            }
+            JScrollPane scroll = new JScrollPane(boardView);
+            scroll.getVerticalScrollBar().setUnitIncrement(rowPainter.rowHeight);
+            return scroll;
+        }
+
+        JPanel centerPanel = new JPanel();
+        centerPanel.setBackground(BG_COLOR);
+        centerPanel.setLayout(new GridLayout(rounds, 1, 0, 0));
+
+        // Creating rounds
+        for (int i = 0; i < rounds; i++) {
+            centerPanel.add(createRoundRow());
+        }
+        return centerPanel;
+    }
+
+    // Model of the model-backed boards, null when the board is made of components
+    public BoardModel getBoardModel() {
+        return board;
+    }
+
+    // Main UI constructor - calls both initialize and createAndShowFrame
+    public MasterMindUI(Color[] colors, String[] labels, int rounds, MasterMindLogic logic) {
+        initialize(colors, labels, rounds, logic);
+        createAndShowFrame();
+    }
+
+
+    public void setColors(Color[] colors) {
+        this.colors = colors;
+    }
+
+    public void setLabels(String[] labels) {
+        this.labels = labels;
+    }
+
+    // A new logic is a new game: the pegs follow its secret, and rows built for the previous game are
+    // dropped so the next createBoard() builds the board and row painter for this one
+    public void setLOGIC(MasterMindLogic LOGIC) {
+        this.LOGIC = LOGIC;
+        this.pegs = codeLength(LOGIC);
+        currentRow = 0;
+        guessRows.clear();
+        pinRows.clear();
+        board = null;
+        rowPainter = null;
+        boardView = null;
+        startGame();
+    }
+
+    public Color[] getColors() {
+        return colors;
+    }
+
+    public String[] getLabels() {
+        return labels;
+    }
+
+    public MasterMindLogic getLOGIC() {
+        return LOGIC;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package org.example.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayDeque;
+
+// Non-modal message banner drawn over the frame as its glass pane.
+// Messages are queued and shown one at a time for a few seconds (or until clicked) by a Swing Timer,
+// so showing one never starts a nested event loop and play can continue underneath.
+public class NotificationOverlay extends JComponent {
+    // Past this many pending messages post drops the oldest one without telling anyone, so fast play
+    // never builds a long backlog and the latest outcome (a win or loss comes last) is always shown
+    private static final int MAX_QUEUED = 4;
+    private static final int PADDING = 12;
+    private static final int TOP = 16;
+    private static final Color BOX_COLOR = new Color(30, 30, 30, 220);
+
+    private final ArrayDeque<String> queue = new ArrayDeque<>();
+    private final Timer timer;
+    private String message;
+    // Bounds of the banner, kept in step with the message, font and width for contains()
+    private Rectangle box = new Rectangle();
+
+    public NotificationOverlay(int displayMillis) {
+        setOpaque(false);
+        setVisible(false);
+        this.timer = new Timer(displayMillis, e -> dismiss());
+        timer.setRepeats(false);
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dismiss();
+            }
+        });
+    }
+
+    // Queues a message, it is shown right away if nothing else is on screen
+    public void post(String text) {
+        if (queue.size() == MAX_QUEUED) {
+            queue.poll();
+        }
+        queue.add(text);
+        if (message == null) {
+            dismiss();
+        }
+    }
+
+    // Hides the current message and moves on to the next one
+    public void dismiss() {
+        message = queue.poll();
+        layoutBox();
+        if (message == null) {
+            timer.stop();
+            setVisible(false);
+        } else {
+            setVisible(true);
+            timer.restart();
+        }
+        repaint();
+    }
+
+    // Message on screen, or null
+    public String getMessage() {
+        return message;
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+        layoutBox();
+    }
+
+    @Override
+    public void setFont(Font font) {
+        super.setFont(font);
+        layoutBox();
+    }
+
+    private void layoutBox() {
+        Font font = getFont();
+        if (message == null || font == null) {
+            box = new Rectangle();
+            return;
+        }
+        FontMetrics metrics = getFontMetrics(font);
+        int width = metrics.stringWidth(message) + 2 * PADDING;
+        int height = metrics.getHeight() + 2 * PADDING;
+        box = new Rectangle((getWidth() - width) / 2, TOP, width, height);
+    }
+
+    // Only the banner takes mouse events, clicks anywhere else go through to the board
+    @Override
+    public boolean contains(int x, int y) {
+        return message != null && box.contains(x, y);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (message == null) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            FontMetrics metrics = g2.getFontMetrics(getFont());
+            g2.setColor(BOX_COLOR);
+            g2.fillRoundRect(box.x, box.y, box.width, box.height, PADDING, PADDING);
+            g2.setColor(Color.WHITE);
+            g2.setFont(getFont());
+            g2.drawString(message, box.x + PADDING, box.y + PADDING + metrics.getAscent());
+        } finally {
+            g2.dispose();
+        }
+    }
+}
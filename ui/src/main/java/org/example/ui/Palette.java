@@ -0,0 +1,87 @@
+package org.example.ui;
+
+import java.awt.Color;
+import java.util.HashMap;
+
+// Registry of the game colors and their labels, each with a dense palette index.
+// Colors and labels are turned into indices once at the boundary (UI, Main, service input) with hash
+// lookups, so the engine only ever handles indices and Color equality never decides a score.
+// Colors and labels must be unique, since each one has to map back to exactly one index.
+public class Palette {
+    private final Color[] COLORS;
+    private final String[] LABELS;
+    private final HashMap<Color, Integer> COLOR_INDEX;
+    private final HashMap<String, Integer> LABEL_INDEX;
+
+    public Palette(Color[] colors, String[] labels) {
+        if (colors.length != labels.length) {
+            throw new IllegalArgumentException("Every color needs exactly one label");
+        }
+        this.COLORS = colors.clone();
+        this.LABELS = labels.clone();
+        this.COLOR_INDEX = new HashMap<>(colors.length * 2);
+        this.LABEL_INDEX = new HashMap<>(labels.length * 2);
+        for (int i = 0; i < colors.length; i++) {
+            if (COLOR_INDEX.putIfAbsent(colors[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate color in palette: " + colors[i]);
+            }
+            if (LABEL_INDEX.putIfAbsent(labels[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate label in palette: " + labels[i]);
+            }
+        }
+    }
+
+    // Index of a color, any Color with the same RGBA value matches
+    public int indexOf(Color color) {
+        Integer index = COLOR_INDEX.get(color);
+        if (index == null) {
+            throw new IllegalArgumentException("Color is not in the palette: " + color);
+        }
+        return index;
+    }
+
+    public int indexOf(String label) {
+        Integer index = LABEL_INDEX.get(label);
+        if (index == null) {
+            throw new IllegalArgumentException("Label is not in the palette: " + label);
+        }
+        return index;
+    }
+
+    public int[] indicesOf(Color[] colors) {
+        int[] indices = new int[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            indices[i] = indexOf(colors[i]);
+        }
+        return indices;
+    }
+
+    public Color color(int index) {
+        return COLORS[index];
+    }
+
+    public String label(int index) {
+        return LABELS[index];
+    }
+
+    // Labels of a code given as indices, concatenated. Example: RVLR
+    public String labels(int[] indices) {
+        StringBuilder result = new StringBuilder();
+        for (int index : indices) {
+            result.append(LABELS[index]);
+        }
+        return result.toString();
+    }
+
+    public int size() {
+        return COLORS.length;
+    }
+
+    public Color[] getColors() {
+        return COLORS.clone();
+    }
+
+    public String[] getLabels() {
+        return LABELS.clone();
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.ui;
+
+import org.example.Scoring;
+
+import java.awt.*;
+
+// Geometry and painting of one board row, shared by the model-backed board views.
+// The layout follows the classic board: feedback pins in two rows on the left, guess slots on the right.
+// Everything is plain arithmetic, so hit-testing a click needs no child components.
+public class RowPainter {
+    private static final int PIN_SIZE = 10;
+    private static final int PIN_GAP = 5;
+    private static final int GUESS_SIZE = 35;
+    private static final int GUESS_GAP = 5;
+    private static final int PIN_TO_GUESS = 50;
+    private static final int MARGIN = 10;
+
+    public final int width, rowHeight;
+    private final int PEGS;
+    private final int PIN_COLUMNS;
+    private final int PIN_TOP;
+    private final int GUESS_LEFT;
+    private final Color[] COLORS;
+    private final Color BACKGROUND;
+    private final Color EMPTY;
+
+    public RowPainter(int pegs, Color[] colors, Color background, Color empty) {
+        this.PEGS = pegs;
+        this.COLORS = colors;
+        this.BACKGROUND = background;
+        this.EMPTY = empty;
+        this.PIN_COLUMNS = (pegs + 1) / 2;
+        this.rowHeight = GUESS_SIZE + 2 * GUESS_GAP;
+        this.PIN_TOP = (rowHeight - (2 * PIN_SIZE + PIN_GAP)) / 2;
+        this.GUESS_LEFT = MARGIN + PIN_COLUMNS * (PIN_SIZE + PIN_GAP) - PIN_GAP + PIN_TO_GUESS;
+        this.width = GUESS_LEFT + pegs * (GUESS_SIZE + GUESS_GAP) - GUESS_GAP + MARGIN;
+    }
+
+    // Paints a row with its top edge at y
+    public void paint(Graphics g, BoardModel model, int row, int y) {
+        g.setColor(BACKGROUND);
+        g.fillRect(0, y, width, rowHeight);
+
+        // Blacks first, then whites, like the classic pins
+        int feedback = model.getFeedback(row);
+        int blacks = feedback == BoardModel.NO_FEEDBACK ? 0 : Scoring.blacks(feedback);
+        int whites = feedback == BoardModel.NO_FEEDBACK ? 0 : Scoring.whites(feedback);
+        for (int i = 0; i < PEGS; i++) {
+            Color pin = i < blacks ? Color.BLACK : i < blacks + whites ? Color.WHITE : EMPTY;
+            int x = MARGIN + (i % PIN_COLUMNS) * (PIN_SIZE + PIN_GAP);
+            CircleSprites.paint(g, pin, PIN_SIZE, x, y + PIN_TOP + (i / PIN_COLUMNS) * (PIN_SIZE + PIN_GAP));
+        }
+
+        for (int i = 0; i < PEGS; i++) {
+            int color = model.getPeg(row, i);
+            CircleSprites.paint(g, color == BoardModel.EMPTY ? EMPTY : COLORS[color],
+                    GUESS_SIZE, slotX(i), y + GUESS_GAP);
+        }
+    }
+
+    // Guess slot under a point of a row (y relative to the row top), or -1
+    public int slotAt(int x, int y) {
+        if (x < GUESS_LEFT || y < GUESS_GAP || y >= GUESS_GAP + GUESS_SIZE) {
+            return -1;
+        }
+        int slot = (x - GUESS_LEFT) / (GUESS_SIZE + GUESS_GAP);
+        if (slot >= PEGS || x - slotX(slot) >= GUESS_SIZE) {
+            return -1;
+        }
+        return slot;
+    }
+
+    public int slotX(int slot) {
+        return GUESS_LEFT + slot * (GUESS_SIZE + GUESS_GAP);
+    }
+}
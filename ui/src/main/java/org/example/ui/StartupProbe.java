@@ -0,0 +1,44 @@
+package org.example.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+// Startup mode for the AppCDS training run and StartupBenchmark (-Dmastermind.startupProbe=true).
+// Brings up the first frame, prints FIRST_FRAME and exits. Without a display the frame content is
+// laid out and painted off screen instead, which loads the same UI classes.
+public final class StartupProbe {
+    public static final String FIRST_FRAME = "mastermind: first frame";
+
+    private StartupProbe() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("mastermind.startupProbe");
+    }
+
+    // Must run on the EDT
+    public static void firstFrame(Color[] palette, String[] labels, int rounds, MasterMindLogic logic) {
+        MasterMindUI ui = new MasterMindUI();
+        ui.initialize(palette, labels, rounds, logic);
+
+        if (GraphicsEnvironment.isHeadless()) {
+            JPanel content = ui.createContent();
+            Dimension size = content.getPreferredSize();
+            BufferedImage image = new BufferedImage(size.width, size.height, BufferedImage.TYPE_INT_RGB);
+            Graphics g = image.createGraphics();
+            SwingUtilities.paintComponent(g, content, new CellRendererPane(), 0, 0, size.width, size.height);
+            g.dispose();
+            report();
+        } else {
+            ui.createAndShowFrame();
+            // Queued behind the events from showing the frame
+            EventQueue.invokeLater(StartupProbe::report);
+        }
+    }
+
+    private static void report() {
+        System.out.println(FIRST_FRAME);
+        System.exit(0);
+    }
+}
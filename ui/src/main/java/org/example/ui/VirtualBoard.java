@@ -0,0 +1,64 @@
+package org.example.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+// Board view for long games: a JList over a BoardModel with fixed cell sizes.
+// JList only lays out and paints the rows inside the viewport through one shared renderer, so memory
+// and layout time don't grow with the number of rounds. Clicks are mapped to (row, slot) by arithmetic.
+public class VirtualBoard extends JList<Integer> {
+    private final BoardModel MODEL;
+    private final RowPainter PAINTER;
+
+    public VirtualBoard(BoardModel model, RowPainter painter, int visibleRows) {
+        super(model);
+        this.MODEL = model;
+        this.PAINTER = painter;
+        setFixedCellHeight(painter.rowHeight);
+        setFixedCellWidth(painter.width);
+        setVisibleRowCount(Math.min(visibleRows, model.getRounds()));
+        setSelectionModel(new DefaultListSelectionModel() {
+            @Override
+            public void setSelectionInterval(int index0, int index1) {
+                // Rows aren't selectable, clicks only color slots
+            }
+        });
+        setCellRenderer(new RowRenderer());
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                int row = locationToIndex(e.getPoint());
+                if (row < 0) {
+                    return;
+                }
+                Rectangle cell = getCellBounds(row, row);
+                if (cell.contains(e.getPoint())) {
+                    MODEL.click(row, PAINTER.slotAt(e.getX() - cell.x, e.getY() - cell.y));
+                }
+            }
+        });
+    }
+
+    public BoardModel getBoardModel() {
+        return MODEL;
+    }
+
+    // A single component paints every visible row
+    private class RowRenderer extends JComponent implements ListCellRenderer<Integer> {
+        private int row;
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends Integer> list, Integer value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            this.row = value;
+            return this;
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            PAINTER.paint(g, MODEL, row, 0);
+        }
+    }
+}
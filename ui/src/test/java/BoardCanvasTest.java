@@ -0,0 +1,86 @@
+import org.example.ui.BoardCanvas;
+import org.example.ui.BoardModel;
+import org.example.ui.RowPainter;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoardCanvasTest {
+
+    private final Color[] colors = {Color.RED, Color.GREEN, Color.BLUE};
+    private final Color background = new Color(141, 69, 220);
+    private final Color empty = new Color(187, 183, 172);
+    private final RowPainter painter = new RowPainter(4, colors, background, empty);
+
+    private void press(BoardCanvas canvas, int x, int y) {
+        MouseEvent e = new MouseEvent(canvas, MouseEvent.MOUSE_PRESSED, 0, 0, x, y, 1, false);
+        for (var listener : canvas.getMouseListeners()) {
+            listener.mousePressed(e);
+        }
+    }
+
+    @Test
+    void testWholeBoardIsOneComponent() {
+        BoardCanvas canvas = new BoardCanvas(new BoardModel(10_000, 4), painter, 10);
+
+        assertEquals(0, canvas.getComponentCount());
+        assertEquals(new Dimension(painter.width, 10_000 * painter.rowHeight), canvas.getPreferredSize());
+        assertEquals(10 * painter.rowHeight, canvas.getPreferredScrollableViewportSize().height);
+        assertEquals(painter.rowHeight,
+                canvas.getScrollableUnitIncrement(new Rectangle(), SwingConstants.VERTICAL, 1));
+    }
+
+    @Test
+    void testClickHitTestingKeepsCurrentRowRestriction() {
+        BoardModel model = new BoardModel(20, 4);
+        BoardCanvas canvas = new BoardCanvas(model, painter, 10);
+        model.setSelectedColor(2);
+
+        press(canvas, painter.slotX(1) + 5, 10);
+        assertEquals(2, model.getPeg(0, 1));
+
+        press(canvas, painter.slotX(1) + 5, painter.rowHeight + 10);
+        assertEquals(BoardModel.EMPTY, model.getPeg(1, 1));
+
+        model.setCurrentRow(1);
+        press(canvas, painter.slotX(3) + 5, painter.rowHeight + 10);
+        assertEquals(2, model.getPeg(1, 3));
+
+        // Outside the board
+        press(canvas, painter.slotX(0) + 5, 20 * painter.rowHeight + 10);
+        press(canvas, painter.slotX(0) + 5, -5);
+    }
+
+    @Test
+    void testOnlyRowsInsideTheClipArePainted() {
+        BoardModel model = new BoardModel(1000, 4);
+        RowPainter spyPainter = spy(painter);
+        BoardCanvas canvas = new BoardCanvas(model, spyPainter, 10);
+        canvas.setSize(canvas.getPreferredSize());
+
+        BufferedImage image = new BufferedImage(painter.width, 3 * painter.rowHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.translate(0, -500 * painter.rowHeight);
+        g.setClip(0, 500 * painter.rowHeight + 1, painter.width, 2 * painter.rowHeight);
+        canvas.paint(g);
+        g.dispose();
+
+        verify(spyPainter).paint(any(), eq(model), eq(500), eq(500 * painter.rowHeight));
+        verify(spyPainter).paint(any(), eq(model), eq(501), anyInt());
+        verify(spyPainter).paint(any(), eq(model), eq(502), anyInt());
+        verify(spyPainter, times(3)).paint(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testRowBounds() {
+        BoardCanvas canvas = new BoardCanvas(new BoardModel(10, 4), painter, 10);
+        assertEquals(new Rectangle(0, 2 * painter.rowHeight, painter.width, 3 * painter.rowHeight),
+                canvas.rowBounds(2, 4));
+    }
+}
@@ -0,0 +1,126 @@
+import org.example.Scoring;
+import org.example.ui.BoardModel;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardModelTest {
+
+    // Records the changed row ranges
+    private static class Recorder implements ListDataListener {
+        final ArrayList<int[]> changes = new ArrayList<>();
+
+        @Override
+        public void intervalAdded(ListDataEvent e) {
+        }
+
+        @Override
+        public void intervalRemoved(ListDataEvent e) {
+        }
+
+        @Override
+        public void contentsChanged(ListDataEvent e) {
+            changes.add(new int[]{e.getIndex0(), e.getIndex1()});
+        }
+    }
+
+    @Test
+    void testNewBoardIsEmpty() {
+        BoardModel model = new BoardModel(1000, 4);
+        assertEquals(1000, model.getSize());
+        assertEquals(4, model.getPegs());
+        assertEquals(BoardModel.EMPTY, model.getPeg(999, 3));
+        assertEquals(BoardModel.NO_FEEDBACK, model.getFeedback(0));
+        assertFalse(model.isRowFilled(0));
+        assertEquals(0, model.getCurrentRow());
+    }
+
+    @Test
+    void testClickOnlyColorsTheCurrentRow() {
+        BoardModel model = new BoardModel(10, 4);
+        assertFalse(model.click(0, 0), "No color selected yet");
+
+        model.setSelectedColor(2);
+        assertTrue(model.click(0, 1));
+        assertEquals(2, model.getPeg(0, 1));
+
+        assertFalse(model.click(1, 1));
+        assertEquals(BoardModel.EMPTY, model.getPeg(1, 1));
+        assertFalse(model.click(0, -1));
+        assertFalse(model.click(0, 4));
+    }
+
+    @Test
+    void testFilledRowAndIndices() {
+        BoardModel model = new BoardModel(3, 3);
+        model.setPeg(0, 0, 5);
+        model.setPeg(0, 1, 0);
+        assertFalse(model.isRowFilled(0));
+        model.setPeg(0, 2, 1);
+        assertTrue(model.isRowFilled(0));
+        assertArrayEquals(new int[]{5, 0, 1}, model.getRow(0));
+    }
+
+    @Test
+    void testChangesFireForTheAffectedRowsOnly() {
+        BoardModel model = new BoardModel(10, 4);
+        Recorder recorder = new Recorder();
+        model.addListDataListener(recorder);
+
+        model.setPeg(3, 0, 1);
+        model.setFeedback(3, Scoring.feedback(1, 2));
+        model.setCurrentRow(4);
+
+        // The row left and the row entered both change
+        assertEquals(4, recorder.changes.size());
+        assertArrayEquals(new int[]{3, 3}, recorder.changes.get(0));
+        assertArrayEquals(new int[]{3, 3}, recorder.changes.get(1));
+        assertArrayEquals(new int[]{0, 0}, recorder.changes.get(2));
+        assertArrayEquals(new int[]{4, 4}, recorder.changes.get(3));
+        assertEquals(Scoring.feedback(1, 2), model.getFeedback(3));
+    }
+
+    @Test
+    void testInvalidBoards() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardModel(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new BoardModel(10, 0));
+        BoardModel model = new BoardModel(1, 1);
+        assertThrows(IllegalArgumentException.class, () -> model.setPeg(0, 0, 200));
+        assertThrows(IllegalArgumentException.class, () -> model.isRowFilled(1));
+        assertThrows(IllegalArgumentException.class, () -> model.isRowFilled(-1));
+    }
+
+    @Test
+    void testUpdateCoalescesIntoOneEvent() {
+        BoardModel model = new BoardModel(10, 4);
+        Recorder recorder = new Recorder();
+        model.addListDataListener(recorder);
+
+        model.setRow(0, new int[]{1, 2, 3, 4});
+        assertEquals(1, recorder.changes.size());
+        assertArrayEquals(new int[]{0, 0}, recorder.changes.get(0));
+        assertTrue(model.isRowFilled(0));
+
+        model.completeRow(0, Scoring.feedback(2, 1));
+        assertEquals(2, recorder.changes.size());
+        assertArrayEquals(new int[]{0, 1}, recorder.changes.get(1));
+        assertEquals(1, model.getCurrentRow());
+
+        // Nested updates only notify when the outermost one ends
+        model.update(() -> {
+            model.setPeg(5, 0, 1);
+            model.update(() -> model.setFeedback(7, 0));
+            assertEquals(2, recorder.changes.size());
+        });
+        assertEquals(3, recorder.changes.size());
+        assertArrayEquals(new int[]{5, 7}, recorder.changes.get(2));
+
+        model.update(() -> {
+        });
+        assertEquals(3, recorder.changes.size());
+    }
+}
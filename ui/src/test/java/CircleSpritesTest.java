@@ -0,0 +1,79 @@
+import org.example.ui.Circle;
+import org.example.ui.CircleSprites;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircleSpritesTest {
+
+    private BufferedImage canvas;
+    private Graphics2D g;
+
+    @BeforeEach
+    void setUp() {
+        CircleSprites.clear();
+        canvas = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        g = canvas.createGraphics();
+    }
+
+    @Test
+    void testSpriteIsRenderedOncePerColorAndDiameter() {
+        BufferedImage red = CircleSprites.get(g, Color.RED, 20);
+        assertSame(red, CircleSprites.get(g, new Color(255, 0, 0), 20));
+        assertNotSame(red, CircleSprites.get(g, Color.RED, 30));
+        assertNotSame(red, CircleSprites.get(g, Color.BLUE, 20));
+        assertEquals(3, CircleSprites.size());
+    }
+
+    @Test
+    void testSpriteIsAFilledCircle() {
+        BufferedImage sprite = CircleSprites.get(g, Color.BLUE, 20);
+        assertEquals(20, sprite.getWidth());
+        assertEquals(Color.BLUE.getRGB(), sprite.getRGB(10, 10));
+        // Corners are outside the circle
+        assertEquals(0, sprite.getRGB(0, 0) >>> 24);
+    }
+
+    @Test
+    void testSpriteFollowsDeviceScale() {
+        g.scale(2, 2);
+        assertEquals(40, CircleSprites.get(g, Color.RED, 20).getWidth());
+    }
+
+    @Test
+    void testCirclePaintsItsCurrentColor() {
+        Circle circle = new Circle(Color.RED, 20, true);
+        circle.paintComponent(g);
+        assertEquals(Color.RED.getRGB(), canvas.getRGB(10, 10));
+
+        circle.setCircleColor(Color.GREEN);
+        circle.paintComponent(g);
+        assertEquals(Color.GREEN.getRGB(), canvas.getRGB(10, 10));
+    }
+
+    @Test
+    void testLeastRecentlyUsedSpriteIsEvicted() {
+        BufferedImage kept = CircleSprites.get(g, Color.RED, 1);
+        BufferedImage dropped = CircleSprites.get(g, Color.BLUE, 1);
+        for (int diameter = 2; diameter <= 255; diameter++) {
+            CircleSprites.get(g, Color.GREEN, diameter);
+        }
+        assertSame(kept, CircleSprites.get(g, Color.RED, 1));
+        CircleSprites.get(g, Color.GREEN, 256);
+        assertEquals(256, CircleSprites.size());
+        assertSame(kept, CircleSprites.get(g, Color.RED, 1));
+        assertNotSame(dropped, CircleSprites.get(g, Color.BLUE, 1));
+    }
+
+    @Test
+    void testNullColorPaintsInTheGraphicsColor() {
+        g.setColor(Color.MAGENTA);
+        CircleSprites.paint(g, null, 20, 0, 0);
+        assertEquals(Color.MAGENTA.getRGB(), canvas.getRGB(10, 10));
+        assertEquals(0, CircleSprites.size());
+    }
+}
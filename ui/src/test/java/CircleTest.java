@@ -1,5 +1,5 @@
 
-import org.example.Circle;
+import org.example.ui.Circle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Spy;
@@ -235,4 +235,50 @@ class CircleTest {
 
         verify(spyCircle, times(1)).repaint();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSetCircleColorsRepaintsParentOnce() {
+        int[] repaints = {0};
+        JPanel panel = new JPanel(new GridLayout(2, 2)) {
+            @Override
+            public void repaint(long tm, int x, int y, int width, int height) {
+                repaints[0]++;
+            }
+        };
+        Circle[] pins = new Circle[4];
+        for (int i = 0; i < pins.length; i++) {
+            pins[i] = new Circle(Color.GRAY, 10, false);
+            panel.add(pins[i]);
+        }
+        repaints[0] = 0;
+
+        Circle.setCircleColors(pins, new Color[]{Color.BLACK, Color.BLACK, Color.WHITE, Color.GRAY});
+
+        assertEquals(1, repaints[0]);
+        assertEquals(Color.BLACK, pins[1].getColor());
+        assertEquals(Color.WHITE, pins[2].getColor());
+        assertEquals(Color.GRAY, pins[3].getColor());
+    }
+
+    @Test
+    void testSetCircleColorsWithoutParentOrChanges() {
+        Circle[] pins = {spy(new Circle(Color.GRAY, 10, false)), spy(new Circle(Color.GRAY, 10, false))};
+
+        Circle.setCircleColors(pins, new Color[]{Color.GRAY, Color.GRAY});
+        verify(pins[0], never()).repaint();
+
+        Circle.setCircleColors(pins, new Color[]{Color.BLACK, Color.GRAY});
+        verify(pins[0], times(1)).repaint();
+        assertEquals(Color.BLACK, pins[0].getColor());
+    }
+
+    @Test
+    void testSetCircleColorsFromAndToNull() {
+        Circle[] pins = {new Circle(null, 10, false), new Circle(Color.GRAY, 10, false)};
+
+        Circle.setCircleColors(pins, new Color[]{Color.BLACK, null});
+
+        assertEquals(Color.BLACK, pins[0].getColor());
+        assertNull(pins[1].getColor());
+    }
+}
@@ -0,0 +1,126 @@
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.ui.Circle;
+import org.example.ui.GameEvents;
+import org.example.ui.MasterMindLogic;
+import org.example.ui.MasterMindUI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GameEventsTest {
+
+    private final Color[] colors = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW, Color.ORANGE, Color.PINK};
+    private final String[] labels = {"R", "G", "B", "Y", "O", "P"};
+
+    private static List<RecordedEvent> record(Path dir, Runnable action) throws IOException {
+        Path file = dir.resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[]{"CheckGuess", "GenerateSecret", "GameStart", "GameEnd", "RowSubmit", "Repaint"}) {
+                recording.enable("org.example." + name);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals("org.example." + name)).toList();
+    }
+
+    @Test
+    void testLogicEvents(@TempDir Path dir) throws IOException {
+        MasterMindLogic[] logic = new MasterMindLogic[1];
+        List<RecordedEvent> events = record(dir, () -> {
+            logic[0] = new MasterMindLogic(colors, 4, labels);
+            logic[0].checkGuess(logic[0].getSECRET());
+        });
+
+        // Games the UI doesn't play, e.g. replayed ones, don't start a game
+        assertTrue(named(events, "GameStart").isEmpty());
+        assertEquals(4, named(events, "GenerateSecret").getFirst().getInt("secretLength"));
+
+        RecordedEvent check = named(events, "CheckGuess").getFirst();
+        assertEquals(4, check.getInt("secretLength"));
+        assertEquals(4, check.getInt("blacks"));
+        assertEquals(0, check.getInt("whites"));
+        assertFalse(check.getDuration().isNegative());
+    }
+
+    @Test
+    void testGameStartsWithTheUI(@TempDir Path dir) throws IOException {
+        MasterMindLogic logic = new MasterMindLogic(colors, 4, labels);
+        MasterMindUI ui = new MasterMindUI();
+        List<RecordedEvent> events = record(dir, () -> {
+            ui.initialize(colors, labels, 10, logic);
+            ui.setLOGIC(new MasterMindLogic(colors, 5, labels));
+        });
+
+        List<RecordedEvent> starts = named(events, "GameStart");
+        assertEquals(2, starts.size());
+        assertEquals(4, starts.get(0).getInt("secretLength"));
+        assertEquals(6, starts.get(0).getInt("colors"));
+        assertEquals(5, starts.get(1).getInt("secretLength"));
+    }
+
+    @Test
+    void testRowSubmitAndGameEnd(@TempDir Path dir) throws IOException {
+        MasterMindLogic logic = new MasterMindLogic(colors, 4, labels);
+        // Long games get the model-backed board, filled here without clicking
+        MasterMindUI ui = spy(new MasterMindUI());
+        ui.initialize(colors, labels, 30, logic);
+        doNothing().when(ui).dialog(anyString());
+        ui.createBoard();
+        JPanel bottom = ui.createBottomPanel(colors, labels);
+        JPanel controls = (JPanel) ((BorderLayout) bottom.getLayout()).getLayoutComponent(BorderLayout.EAST);
+        JButton check = (JButton) controls.getComponent(0);
+        ui.getBoardModel().setRow(0, logic.getSecretIndices());
+
+        List<RecordedEvent> events = record(dir, () -> {
+            check.doClick();
+            // Telling the player again doesn't end the game twice
+            ui.colorPins(new Circle[0], new MasterMindLogic.Result(4, 0));
+        });
+
+        RecordedEvent submit = named(events, "RowSubmit").getFirst();
+        assertEquals(0, submit.getInt("row"));
+        assertEquals(4, submit.getInt("blacks"));
+        assertEquals(1, named(events, "GameEnd").size());
+        RecordedEvent end = named(events, "GameEnd").getFirst();
+        assertTrue(end.getBoolean("won"));
+        assertEquals(1, end.getInt("rounds"));
+    }
+
+    @Test
+    void testRepaintEvents(@TempDir Path dir) throws IOException {
+        GameEvents.TimedRepaintManager manager = new GameEvents.TimedRepaintManager();
+        List<RecordedEvent> events = record(dir, manager::paintDirtyRegions);
+        assertEquals(1, named(events, "Repaint").size());
+    }
+
+    @Test
+    void testRepaintsAreTimedWhileRecording() throws Exception {
+        GameEvents.installRepaintTiming();
+        GameEvents.installRepaintTiming();
+        try (Recording recording = new Recording()) {
+            recording.start();
+            SwingUtilities.invokeAndWait(() -> { });
+            assertInstanceOf(GameEvents.TimedRepaintManager.class, RepaintManager.currentManager((Component) null));
+            recording.stop();
+            SwingUtilities.invokeAndWait(() -> { });
+            assertFalse(RepaintManager.currentManager((Component) null) instanceof GameEvents.TimedRepaintManager);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+import org.example.GameJournal;
+import org.example.GameRecord;
+import org.example.Scoring;
+import org.example.ui.JournalReplay;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalReplayTest {
+
+    private static GameRecord record(SplittableRandom random, int colors, int pegs, boolean tamper) {
+        int[] secret = random.ints(pegs, 0, colors).toArray();
+        long[] guesses = new long[5];
+        int[] feedbacks = new int[5];
+        for (int r = 0; r < guesses.length; r++) {
+            int[] guess = random.ints(pegs, 0, colors).toArray();
+            guesses[r] = Scoring.encodeLong(guess);
+            feedbacks[r] = Scoring.score(guess, secret);
+        }
+        if (tamper) {
+            feedbacks[2] = feedbacks[2] == 0 ? Scoring.feedback(0, 1) : 0;
+        }
+        return new GameRecord(colors, pegs, Scoring.encodeLong(secret), guesses, feedbacks, 0, new int[5]);
+    }
+
+    @Test
+    void testReplayMatchesRecordedFeedback(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        SplittableRandom random = new SplittableRandom(11);
+        try (GameJournal journal = GameJournal.open(file)) {
+            for (int i = 0; i < 300; i++) {
+                journal.append(record(random, 6, 4, false));
+                journal.append(record(random, 16, 12, false));
+            }
+        }
+
+        JournalReplay.Report report = JournalReplay.replay(file);
+        assertEquals(600, report.games);
+        assertEquals(3000, report.guesses);
+        assertEquals(0, report.mismatches);
+        assertTrue(report.toString().startsWith("600 games, 3000 guesses, 0 mismatches"));
+    }
+
+    @Test
+    void testReplayCountsMismatches(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("games.bin");
+        SplittableRandom random = new SplittableRandom(12);
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.append(record(random, 8, 5, false));
+            journal.append(record(random, 8, 5, true));
+        }
+        assertEquals(1, JournalReplay.replay(file).mismatches);
+    }
+}
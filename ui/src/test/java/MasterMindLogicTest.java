@@ -0,0 +1,531 @@
+
+
+import org.example.CodeSpace;
+import org.example.FeedbackMatrix;
+import org.example.GameJournal;
+import org.example.GameRecord;
+import org.example.HintEngine;
+import org.example.Scoring;
+import org.example.ui.MasterMindLogic;
+import org.example.ui.Palette;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+
+class MasterMindLogicTest {
+    private Color[] palette;
+    private String[] labels;
+    private int secretLength;
+
+    @BeforeEach
+    void setUp() {
+        palette = new Color[]{
+                Color.RED,
+                Color.GREEN,
+                Color.BLUE,
+                Color.YELLOW,
+                Color.ORANGE,
+                Color.PINK
+        };
+        labels = new String[]{"R", "G", "B", "Y", "O", "P"};
+        secretLength = 4;
+    }
+
+    @Test
+    void testConstructorInitializesCorrectly() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        assertNotNull(testLogic);
+        assertNotNull(testLogic.getSECRET());
+    }
+
+    @Test
+    void testGenerateSecretCreatesCorrectLength() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        int[] secret = testLogic.generateSecret(secretLength);
+        assertEquals(secretLength, secret.length);
+    }
+
+    @Test
+    void testGenerateSecretUsesColorsFromPalette() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        int[] secret = testLogic.generateSecret(secretLength);
+
+        for (int index : secret) {
+            assertTrue(index >= 0 && index < palette.length);
+        }
+    }
+
+    @Test
+    void testGenerateSecretWithDifferentLengths() {
+        for (int length = 1; length <= 6; length++) {
+            MasterMindLogic testLogic = new MasterMindLogic(palette, length, labels);
+            int[] secret = testLogic.generateSecret(length);
+            assertEquals(length, secret.length);
+        }
+    }
+
+    @Test
+    void testCheckGuessWithWhitePins() {
+        Color[] testPalette = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        String[] testLabels = {"R", "G", "B", "Y"};
+
+        // Method override so that is returns a known secret: RED, GREEN, BLUE, YELLOW
+        MasterMindLogic testLogic = new MasterMindLogic(testPalette, 4, testLabels) {
+            @Override
+            public int[] generateSecret(int length) {
+
+                return new int[]{0, 1, 2, 3};
+            }
+        };
+
+        // Guess with colors in wrong positions: GREEN, RED, YELLOW, BLUE
+        Color[] guess = {Color.GREEN, Color.RED, Color.YELLOW, Color.BLUE};
+        MasterMindLogic.Result result = testLogic.checkGuess(guess);
+
+        assertEquals(0, result.blacks, "Should have 0 black pins");
+        assertEquals(4, result.whites, "Should have 4 white pins");
+    }
+
+    @Test
+    void testCheckGuessMixedBlackAndWhite() {
+        Color[] testPalette = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        String[] testLabels = {"R", "G", "B", "Y"};
+
+        MasterMindLogic testLogic = new MasterMindLogic(testPalette, 4, testLabels) {
+            @Override
+            public int[] generateSecret(int length) {
+                // Known secret: RED, GREEN, BLUE, YELLOW
+                return new int[]{0, 1, 2, 3};
+            }
+        };
+
+        // Guess: RED (correct), BLUE (wrong color, right position elsewhere), GREEN (wrong position), YELLOW (correct)
+        // Actually: RED (black), YELLOW (white), GREEN (white), YELLOW (black)
+        Color[] guess = {Color.RED, Color.YELLOW, Color.GREEN, Color.YELLOW};
+        MasterMindLogic.Result result = testLogic.checkGuess(guess);
+
+        assertEquals(2, result.blacks, "Should have 2 black pins");
+        assertEquals(1, result.whites, "Should have 1 white pin");
+    }
+
+    @Test
+    void testCheckGuessDuplicateColors() {
+        Color[] testPalette = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        String[] testLabels = {"R", "G", "B", "Y"};
+
+        MasterMindLogic testLogic = new MasterMindLogic(testPalette, 4, testLabels) {
+            @Override
+            public int[] generateSecret(int length) {
+                // Known secret with duplicates: RED, RED, BLUE, YELLOW
+                return new int[]{0, 0, 2, 3};
+            }
+        };
+
+        // Guess: RED, GREEN, RED, YELLOW
+        Color[] guess = {Color.RED, Color.GREEN, Color.RED, Color.YELLOW};
+        MasterMindLogic.Result result = testLogic.checkGuess(guess);
+
+        assertEquals(2, result.blacks, "Should have 2 black pins (positions 0 and 3)");
+        assertEquals(1, result.whites, "Should have 1 white pin (RED at position 2)");
+    }
+
+    @Test
+    void testCheckGuessAllSameColorNoMatch() {
+        Color[] testPalette = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        String[] testLabels = {"R", "G", "B", "Y"};
+
+        MasterMindLogic testLogic = new MasterMindLogic(testPalette, 4, testLabels) {
+            @Override
+            public int[] generateSecret(int length) {
+                // Known secret: RED, GREEN, BLUE, YELLOW (all different)
+                return new int[]{0, 1, 2, 3};
+            }
+        };
+
+        // Guess all same color that appears once
+        Color[] guess = {Color.RED, Color.RED, Color.RED, Color.RED};
+        MasterMindLogic.Result result = testLogic.checkGuess(guess);
+
+        assertEquals(1, result.blacks, "Should have 1 black pin");
+        assertEquals(0, result.whites, "Should have 0 white pins");
+    }
+
+    @Test
+    void testShowSecretReturnsCorrectFormat() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        String secret = testLogic.showSecret();
+
+        assertNotNull(secret);
+        assertEquals(secretLength, secret.length());
+
+        // Verify all characters are valid labels
+        for (char c : secret.toCharArray()) {
+            boolean found = false;
+            for (String label : labels) {
+                if (label.charAt(0) == c) {
+                    found = true;
+                    break;
+                }
+            }
+            assertTrue(found, "Secret contains invalid label: " + c);
+        }
+    }
+
+    @Test
+    void testShowSecretConsistency() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        String secret1 = testLogic.showSecret();
+        String secret2 = testLogic.showSecret();
+
+        assertEquals(secret1, secret2, "showSecret should return same value when called multiple times");
+    }
+
+    @Test
+    void testResultClassCreation() {
+        MasterMindLogic.Result result = new MasterMindLogic.Result(2, 1);
+        assertEquals(2, result.blacks);
+        assertEquals(1, result.whites);
+    }
+
+    @Test
+    void testResultClassWithZeros() {
+        MasterMindLogic.Result result = new MasterMindLogic.Result(0, 0);
+        assertEquals(0, result.blacks);
+        assertEquals(0, result.whites);
+    }
+
+    @Test
+    void testResultClassWithMaxValues() {
+        MasterMindLogic.Result result = new MasterMindLogic.Result(4, 0);
+        assertEquals(4, result.blacks);
+        assertEquals(0, result.whites);
+
+        result = new MasterMindLogic.Result(0, 4);
+        assertEquals(0, result.blacks);
+        assertEquals(4, result.whites);
+    }
+
+    @Test
+    void testCheckGuessPartialDuplicates() {
+        Color[] testPalette = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        String[] testLabels = {"R", "G", "B", "Y"};
+
+        MasterMindLogic testLogic = new MasterMindLogic(testPalette, 4, testLabels) {
+            @Override
+            public int[] generateSecret(int length) {
+                // Secret: RED, RED, GREEN, BLUE
+                return new int[]{0, 0, 1, 2};
+            }
+        };
+
+        // Guess: GREEN, RED, RED, GREEN
+        Color[] guess = {Color.GREEN, Color.RED, Color.RED, Color.GREEN};
+        MasterMindLogic.Result result = testLogic.checkGuess(guess);
+
+        // Position 1: RED matches position 1 = 1 black
+        // Position 0: GREEN is in position 2 = 1 white
+        // Position 2: RED is in position 0 = 1 white
+        assertEquals(1, result.blacks);
+        assertEquals(2, result.whites);
+    }
+
+    @Test
+    void testCheckGuessWithSingleColor() {
+        Color[] testPalette = {Color.RED};
+        String[] testLabels = {"R"};
+
+        MasterMindLogic testLogic = new MasterMindLogic(testPalette, 4, testLabels);
+        Color[] guess = {Color.RED, Color.RED, Color.RED, Color.RED};
+
+        MasterMindLogic.Result result = testLogic.checkGuess(guess);
+        assertEquals(4, result.blacks);
+        assertEquals(0, result.whites);
+    }
+
+    @Test
+    void testMultipleGuessesSameLogic() {
+        Color[] testPalette = {Color.RED, Color.GREEN, Color.BLUE};
+        String[] testLabels = {"R", "G", "B"};
+
+        MasterMindLogic testLogic = new MasterMindLogic(testPalette, 3, testLabels);
+
+        Color[] guess1 = {Color.RED, Color.GREEN, Color.BLUE};
+        Color[] guess2 = {Color.BLUE, Color.RED, Color.GREEN};
+
+        MasterMindLogic.Result result1 = testLogic.checkGuess(guess1);
+        MasterMindLogic.Result result2 = testLogic.checkGuess(guess2);
+
+        // Results should be consistent with the same secret
+        assertNotNull(result1);
+        assertNotNull(result2);
+    }
+
+    @Test
+    void testEdgeCaseEmptyWhiteList() {
+        Color[] testPalette = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        String[] testLabels = {"R", "G", "B", "Y"};
+
+        MasterMindLogic testLogic = new MasterMindLogic(testPalette, 4, testLabels) {
+            @Override
+            public int[] generateSecret(int length) {
+                return new int[]{0, 1, 2, 3};
+            }
+        };
+
+        // All correct positions
+        Color[] guess = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        MasterMindLogic.Result result = testLogic.checkGuess(guess);
+
+        assertEquals(4, result.blacks);
+        assertEquals(0, result.whites);
+    }
+
+    @Test
+    void testCheckGuessUsesColorEqualityNotIdentity() {
+        Color[] testPalette = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        String[] testLabels = {"R", "G", "B", "Y"};
+
+        MasterMindLogic testLogic = new MasterMindLogic(testPalette, 4, testLabels) {
+            @Override
+            public int[] generateSecret(int length) {
+                return new int[]{0, 1, 2, 3};
+            }
+        };
+
+        // Equal but non-identical Color instances must still score as matches
+        Color[] guess = {new Color(255, 0, 0), new Color(0, 255, 0), Color.YELLOW, Color.BLUE};
+        MasterMindLogic.Result result = testLogic.checkGuess(guess);
+
+        assertEquals(2, result.blacks);
+        assertEquals(2, result.whites);
+    }
+
+    @Test
+    void testCheckGuessRejectsColorOutsidePalette() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        Color[] guess = {Color.BLACK, Color.RED, Color.RED, Color.RED};
+        assertThrows(IllegalArgumentException.class, () -> testLogic.checkGuess(guess));
+    }
+
+    @Test
+    void testScorePackedCodeMatchesCheckGuess() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        Color[] guess = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        int code = Scoring.encode(new int[]{0, 1, 2, 3});
+
+        assertEquals(testLogic.checkGuess(guess).packed(), testLogic.score(code));
+        assertEquals(Scoring.feedback(4, 0), testLogic.score(testLogic.getSecretCode()));
+    }
+
+    @Test
+    void testLargeGameFallsBackToIndexScoring() {
+        Color[] bigPalette = new Color[20];
+        String[] bigLabels = new String[20];
+        for (int i = 0; i < bigPalette.length; i++) {
+            bigPalette[i] = new Color(i * 10, 0, 0);
+            bigLabels[i] = String.valueOf((char) ('a' + i));
+        }
+
+        MasterMindLogic testLogic = new MasterMindLogic(bigPalette, 12, bigLabels);
+        MasterMindLogic.Result result = testLogic.checkGuess(testLogic.getSECRET());
+
+        assertEquals(12, result.blacks);
+        assertEquals(0, result.whites);
+        assertThrows(IllegalStateException.class, () -> testLogic.score(0));
+        assertThrows(IllegalStateException.class, testLogic::getSecretCode);
+        assertThrows(IllegalStateException.class, testLogic::getSecretLongCode);
+        assertThrows(IllegalArgumentException.class,
+                () -> new MasterMindLogic(bigPalette, Scoring.MAX_ARRAY_PEGS + 1, bigLabels));
+    }
+
+    @Test
+    void testResultPackedRoundTrip() {
+        MasterMindLogic.Result result = MasterMindLogic.Result.of(Scoring.feedback(1, 3));
+        assertEquals(1, result.blacks);
+        assertEquals(3, result.whites);
+        assertEquals(Scoring.feedback(1, 3), result.packed());
+    }
+
+    @Test
+    void testFeedbackMatrixLookupMatchesKernel(@TempDir Path tempDir) throws IOException {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        CodeSpace space = new CodeSpace(palette.length, secretLength);
+        Color[] guess = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        int expected = testLogic.score(guess);
+
+        testLogic.setFeedbackMatrix(FeedbackMatrix.open(tempDir.resolve("m.bin"), space));
+
+        assertEquals(expected, testLogic.score(guess));
+        assertEquals(expected, testLogic.score(Scoring.encode(new int[]{0, 1, 2, 3})));
+        assertEquals(Scoring.feedback(4, 0), testLogic.checkGuess(testLogic.getSECRET()).packed());
+    }
+
+    @Test
+    void testFeedbackMatrixMustMatchGameSize(@TempDir Path tempDir) throws IOException {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        FeedbackMatrix matrix = FeedbackMatrix.open(tempDir.resolve("m.bin"), new CodeSpace(6, 3));
+        assertThrows(IllegalArgumentException.class, () -> testLogic.setFeedbackMatrix(matrix));
+    }
+
+    @Test
+    void testPaletteConstructorAndShowSecretWithEqualColors() {
+        Palette registry = new Palette(palette, labels);
+        MasterMindLogic testLogic = new MasterMindLogic(registry, 4) {
+            @Override
+            public int[] generateSecret(int length) {
+                // RED, BLUE, PINK, RED
+                return new int[]{0, 2, 5, 0};
+            }
+        };
+
+        assertSame(registry, testLogic.getPalette());
+        assertEquals("RBPR", testLogic.showSecret());
+        // Equal to palette entries but different instances
+        Color[] guess = {new Color(255, 0, 0), new Color(0, 0, 255), Color.PINK, new Color(255, 0, 0)};
+        assertEquals(4, testLogic.checkGuess(guess).blacks);
+    }
+
+    @Test
+    void testLongCodesUpToSixteenPegs() {
+        Color[] bigPalette = new Color[16];
+        String[] bigLabels = new String[16];
+        for (int i = 0; i < bigPalette.length; i++) {
+            bigPalette[i] = new Color(0, i * 15, 0);
+            bigLabels[i] = String.valueOf((char) ('a' + i));
+        }
+
+        MasterMindLogic testLogic = new MasterMindLogic(bigPalette, 16, bigLabels);
+        assertEquals(16, testLogic.getSecretLength());
+        assertEquals(16, testLogic.checkGuess(testLogic.getSECRET()).blacks);
+        assertEquals(Scoring.feedback(16, 0), testLogic.score(testLogic.getSecretLongCode()));
+
+        // Reversed secret against the index-array reference
+        Color[] reversed = new Color[16];
+        int[] secretIndices = new int[16];
+        int[] reversedIndices = new int[16];
+        for (int i = 0; i < 16; i++) {
+            reversed[i] = testLogic.getSECRET()[15 - i];
+            secretIndices[i] = testLogic.getPalette().indexOf(testLogic.getSECRET()[i]);
+        }
+        for (int i = 0; i < 16; i++) {
+            reversedIndices[i] = secretIndices[15 - i];
+        }
+        int expected = Scoring.score(reversedIndices, secretIndices);
+        assertEquals(expected, testLogic.score(reversed));
+        assertEquals(expected, testLogic.score(Scoring.encodeLong(reversedIndices)));
+        assertThrows(IllegalStateException.class, () -> testLogic.score(0));
+    }
+
+    @Test
+    void testShortGameScoresLongCodes() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        assertEquals(Scoring.feedback(4, 0), testLogic.score((long) testLogic.getSecretCode()));
+        assertEquals(testLogic.getSecretCode(), testLogic.getSecretLongCode());
+    }
+
+    @Test
+    void testHintsFollowCheckedGuesses() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        assertFalse(testLogic.hasHints());
+        assertNull(testLogic.hint());
+
+        testLogic.setHintEngine(new HintEngine(new CodeSpace(6, 4)));
+        assertTrue(testLogic.hasHints());
+        Color[] guess = {Color.RED, Color.RED, Color.GREEN, Color.BLUE};
+        MasterMindLogic.Result result = testLogic.checkGuess(guess);
+
+        // The hint only considers secrets that would have given the same feedback
+        HintEngine.Hint hint = testLogic.hint();
+        assertTrue(hint.bits > 0);
+        HintEngine engine = new HintEngine(new CodeSpace(6, 4));
+        engine.retain(Scoring.encode(new int[]{0, 0, 1, 2}), result.packed());
+        assertEquals(engine.hint().code, hint.code);
+
+        testLogic.checkGuess(testLogic.getSECRET());
+        assertEquals(testLogic.getSecretCode(), testLogic.hint().code);
+        assertEquals(0, testLogic.hint().bits);
+    }
+
+    @Test
+    void testHintEngineMustMatchGameSize() {
+        MasterMindLogic testLogic = new MasterMindLogic(palette, secretLength, labels);
+        assertThrows(IllegalArgumentException.class, () -> testLogic.setHintEngine(new HintEngine(new CodeSpace(6, 5))));
+        testLogic.setHintEngine(null);
+        assertFalse(testLogic.hasHints());
+    }
+
+    @Test
+    void testFinishedGameGoesToTheJournal(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("games.bin");
+        MasterMindLogic testLogic = new MasterMindLogic(new Palette(palette, labels), 4);
+        Color[] guess = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW};
+        try (GameJournal journal = GameJournal.open(file)) {
+            testLogic.setJournal(journal);
+            int feedback = testLogic.checkGuess(guess).packed();
+            testLogic.checkGuess(testLogic.getSECRET());
+            testLogic.finish();
+            testLogic.finish();
+
+            List<GameRecord> records = new ArrayList<>();
+            journal.flush();
+            GameJournal.read(file, records::add);
+            assertEquals(1, records.size());
+            GameRecord record = records.getFirst();
+            assertEquals(6, record.colors);
+            assertEquals(4, record.pegs);
+            assertEquals(testLogic.getSecretCode(), record.secret);
+            assertEquals(Scoring.encodeLong(new int[]{0, 1, 2, 3}), record.guesses[0]);
+            assertEquals(feedback, record.feedbacks[0]);
+            assertTrue(record.isWon());
+            assertTrue(record.times[1] >= record.times[0]);
+        }
+    }
+
+    @Test
+    void testJournalNeedsALongCode() {
+        Color[] many = new Color[17];
+        String[] names = new String[17];
+        for (int i = 0; i < many.length; i++) {
+            many[i] = new Color(i);
+            names[i] = "c" + i;
+        }
+        MasterMindLogic testLogic = new MasterMindLogic(many, 4, names);
+        assertThrows(IllegalArgumentException.class, () -> testLogic.setJournal(mock(GameJournal.class)));
+        // Without a journal finishing does nothing
+        assertDoesNotThrow(testLogic::finish);
+    }
+
+    @Test
+    void testKnownSecret() {
+        Color[] secret = {Color.PINK, Color.RED, Color.RED, Color.BLUE};
+        MasterMindLogic testLogic = new MasterMindLogic(new Palette(palette, labels), secret);
+        assertArrayEquals(secret, testLogic.getSECRET());
+        assertEquals("PRRB", testLogic.showSecret());
+        assertEquals(4, testLogic.checkGuess(secret.clone()).blacks);
+    }
+
+    @Test
+    void testIndexGuessesAndSecrets() {
+        MasterMindLogic testLogic = new MasterMindLogic(new Palette(palette, labels), new int[]{5, 0, 0, 2});
+        assertArrayEquals(new Color[]{Color.PINK, Color.RED, Color.RED, Color.BLUE}, testLogic.getSECRET());
+        assertArrayEquals(new int[]{5, 0, 0, 2}, testLogic.getSecretIndices());
+
+        MasterMindLogic.Result result = testLogic.checkGuess(new int[]{0, 5, 0, 1});
+        assertEquals(1, result.blacks);
+        assertEquals(2, result.whites);
+        assertThrows(IllegalArgumentException.class, () -> testLogic.checkGuess(new int[]{0, 6, 0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> testLogic.score(new int[]{0, 5, 0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MasterMindLogic(new Palette(palette, labels), new int[]{0, -1, 0, 0}));
+    }
+}
@@ -1,6 +1,13 @@
-import org.example.Circle;
-import org.example.MasterMindLogic;
-import org.example.MasterMindUI;
+import org.example.CodeSpace;
+import org.example.HintEngine;
+import org.example.Scoring;
+import org.example.ui.BoardCanvas;
+import org.example.ui.BoardModel;
+import org.example.ui.Circle;
+import org.example.ui.MasterMindLogic;
+import org.example.ui.MasterMindUI;
+import org.example.ui.NotificationOverlay;
+import org.example.ui.VirtualBoard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +20,7 @@ import java.awt.event.ActionEvent;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 
-import static org.example.MasterMindUI.BASE_COLOR;
+import static org.example.ui.MasterMindUI.BASE_COLOR;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -584,6 +591,36 @@ class MasterMindUITest {
         verify(spiedUi, never()).dialog("Please fill all slots before checking!");
     }
 
+    @Test
+    void testRowIsScoredAndAdvancedBeforeThePlayerIsTold() throws Exception {
+        MasterMindUI spiedUi = spy(new MasterMindUI());
+        spiedUi.initialize(colors, labels, rounds, mockLogic);
+        when(mockLogic.checkGuess(any(Color[].class))).thenReturn(new MasterMindLogic.Result(1, 0));
+        JPanel row = spiedUi.createRoundRow();
+        spiedUi.createRoundRow();
+        JPanel bottomPanel = spiedUi.createBottomPanel(colors, labels);
+        for (Component slot : ((JPanel) row.getComponent(1)).getComponents()) {
+            ((Circle) slot).setCircleColor(Color.RED);
+        }
+        Circle firstPin = (Circle) ((JPanel) row.getComponent(0)).getComponent(0);
+
+        // What a modal dialog would show
+        int[] rowShown = {-1};
+        Color[] pinShown = {null};
+        doAnswer(invocation -> {
+            rowShown[0] = (int) getPrivateField(spiedUi, "currentRow");
+            pinShown[0] = firstPin.getColor();
+            return null;
+        }).when(spiedUi).dialog(anyString());
+
+        JPanel controlPanel = (JPanel) ((BorderLayout) bottomPanel.getLayout()).getLayoutComponent(BorderLayout.EAST);
+        ((JButton) controlPanel.getComponent(0)).doClick();
+
+        verify(spiedUi).dialog("Black: 1. White: 0");
+        assertEquals(1, rowShown[0]);
+        assertEquals(Color.BLACK, pinShown[0]);
+    }
+
     @Test
     void testCreateAndShowFrameException() {
         MasterMindUI newUi = new MasterMindUI();
@@ -621,4 +658,201 @@ class MasterMindUITest {
         ui.setLOGIC(mockLogicLocal);
         assertEquals(mockLogicLocal, ui.getLOGIC());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testNewLogicResizesTheBoard() {
+        ui.createBoard();
+        MasterMindLogic sixPegs = mock(MasterMindLogic.class);
+        when(sixPegs.getSecretLength()).thenReturn(6);
+        ui.setLOGIC(sixPegs);
+
+        JPanel row = (JPanel) ui.createBoard().getComponent(0);
+        assertEquals(6, ((JPanel) row.getComponent(0)).getComponentCount());
+        assertEquals(6, ((JPanel) row.getComponent(1)).getComponentCount());
+
+        System.setProperty("mastermind.board", "virtual");
+        try {
+            ui.createBoard();
+            assertEquals(6, ui.getBoardModel().getPegs());
+        } finally {
+            System.clearProperty("mastermind.board");
+        }
+    }
+
+    @Test
+    void testSmallBoardIsMadeOfRowPanels() {
+        JComponent board = ui.createBoard();
+
+        assertEquals(rounds, board.getComponentCount());
+        assertNull(ui.getBoardModel());
+    }
+
+    @Test
+    void testLargeBoardIsVirtualized() {
+        ui.initialize(colors, labels, 5000, mockLogic);
+        JScrollPane board = (JScrollPane) ui.createBoard();
+
+        assertInstanceOf(VirtualBoard.class, board.getViewport().getView());
+        assertEquals(5000, ui.getBoardModel().getRounds());
+    }
+
+    @Test
+    void testLargeBoardCheckFlow() {
+        MasterMindUI spiedUi = spy(new MasterMindUI());
+        spiedUi.initialize(colors, labels, 500, mockLogic);
+        doNothing().when(spiedUi).dialog(anyString());
+        when(mockLogic.checkGuess(any(int[].class))).thenReturn(new MasterMindLogic.Result(1, 2));
+
+        spiedUi.createBoard();
+        JPanel bottomPanel = spiedUi.createBottomPanel(colors, labels);
+        BorderLayout layout = (BorderLayout) bottomPanel.getLayout();
+        JPanel colorPanel = (JPanel) layout.getLayoutComponent(BorderLayout.WEST);
+        JPanel controlPanel = (JPanel) layout.getLayoutComponent(BorderLayout.EAST);
+        JButton checkBtn = (JButton) controlPanel.getComponent(0);
+        BoardModel model = spiedUi.getBoardModel();
+
+        checkBtn.doClick();
+        verify(spiedUi).dialog("Please fill all slots before checking!");
+
+        ((JButton) colorPanel.getComponent(2)).doClick();
+        for (int slot = 0; slot < 4; slot++) {
+            model.click(0, slot);
+        }
+        checkBtn.doClick();
+
+        verify(mockLogic).checkGuess(new int[]{2, 2, 2, 2});
+        verify(spiedUi).dialog("Black: 1. White: 2");
+        assertEquals(MasterMindLogic.Result.of(model.getFeedback(0)).whites, 2);
+        assertEquals(1, model.getCurrentRow());
+    }
+
+    @Test
+    void testCheckAfterTheLastRowDoesNothing() {
+        MasterMindUI spiedUi = spy(new MasterMindUI());
+        spiedUi.initialize(colors, labels, 25, mockLogic);
+        doNothing().when(spiedUi).dialog(anyString());
+        when(mockLogic.checkGuess(any(int[].class))).thenReturn(new MasterMindLogic.Result(0, 0));
+
+        spiedUi.createBoard();
+        JPanel bottomPanel = spiedUi.createBottomPanel(colors, labels);
+        JPanel controlPanel = (JPanel) ((BorderLayout) bottomPanel.getLayout()).getLayoutComponent(BorderLayout.EAST);
+        JButton checkBtn = (JButton) controlPanel.getComponent(0);
+        BoardModel model = spiedUi.getBoardModel();
+        for (int row = 0; row < 25; row++) {
+            model.setRow(row, new int[]{0, 1, 2, 3});
+            checkBtn.doClick();
+        }
+        assertEquals(25, model.getCurrentRow());
+
+        assertDoesNotThrow(() -> checkBtn.doClick());
+        verify(mockLogic, times(25)).checkGuess(any(int[].class));
+    }
+
+    @Test
+    void testCanvasBoardCanBeChosen() {
+        System.setProperty("mastermind.board", "canvas");
+        try {
+            JScrollPane board = (JScrollPane) ui.createBoard();
+            assertInstanceOf(BoardCanvas.class, board.getViewport().getView());
+            assertEquals(rounds, ui.getBoardModel().getRounds());
+        } finally {
+            System.clearProperty("mastermind.board");
+        }
+    }
+
+    @Test
+    void testDialogUsesOverlayOnceCreated() {
+        NotificationOverlay overlay = ui.createNotificationOverlay();
+
+        ui.dialog("Black: 2. White: 1");
+        ui.dialog("You lost, the answer was: RGBY");
+
+        assertEquals("Black: 2. White: 1", overlay.getMessage());
+        assertEquals(1, overlay.getQueued());
+    }
+
+    @Test
+    void testContentShowsBeforeRowsAreBuilt() throws Exception {
+        JPanel content = ui.createContent();
+        BorderLayout layout = (BorderLayout) content.getLayout();
+        JPanel holder = (JPanel) layout.getLayoutComponent(BorderLayout.CENTER);
+
+        // A placeholder of the full board size, the rows come with the next event
+        assertEquals(0, holder.getComponentCount());
+        assertTrue(holder.getPreferredSize().height > 0);
+        assertNotNull(layout.getLayoutComponent(BorderLayout.SOUTH));
+
+        Dimension placeholder = holder.getPreferredSize();
+        SwingUtilities.invokeAndWait(() -> {
+        });
+
+        assertEquals(1, holder.getComponentCount());
+        JPanel board = (JPanel) holder.getComponent(0);
+        assertEquals(rounds, board.getComponentCount());
+        assertEquals(placeholder.height, board.getPreferredSize().height);
+        assertEquals(rounds, ((ArrayList<?>) getPrivateField(ui, "guessRows")).size());
+        assertEquals(rounds, ((ArrayList<?>) getPrivateField(ui, "pinRows")).size());
+    }
+
+    @Test
+    void testContentWithLargeBoardIsBuiltRightAway() {
+        ui.initialize(colors, labels, 1000, mockLogic);
+        JPanel content = ui.createContent();
+        BorderLayout layout = (BorderLayout) content.getLayout();
+
+        assertInstanceOf(JScrollPane.class, layout.getLayoutComponent(BorderLayout.CENTER));
+        assertNotNull(ui.getBoardModel());
+    }
+
+    @Test
+    void testRowsAreSizedFromSecretLength() {
+        when(mockLogic.getSecretLength()).thenReturn(8);
+        ui.initialize(colors, labels, rounds, mockLogic);
+
+        JPanel pinPanel = ui.createPinPanel();
+        JPanel guessPanel = ui.createGuessPanel();
+
+        assertEquals(8, pinPanel.getComponentCount());
+        assertEquals(4, ((GridLayout) pinPanel.getLayout()).getColumns());
+        assertEquals(8, guessPanel.getComponentCount());
+    }
+
+    @Test
+    void testLongCodeWinNeedsAllPegs() {
+        MasterMindUI spiedUi = spy(new MasterMindUI());
+        when(mockLogic.getSecretLength()).thenReturn(6);
+        spiedUi.initialize(colors, labels, rounds, mockLogic);
+        doNothing().when(spiedUi).dialog(anyString());
+
+        Circle[] pins = new Circle[6];
+        for (int i = 0; i < pins.length; i++) {
+            pins[i] = new Circle(BASE_COLOR, 10, false);
+        }
+        spiedUi.colorPins(pins, new MasterMindLogic.Result(4, 2));
+        verify(spiedUi).dialog("Black: 4. White: 2");
+        assertEquals(Color.WHITE, pins[5].getColor());
+
+        spiedUi.colorPins(pins, new MasterMindLogic.Result(6, 0));
+        verify(spiedUi).dialog("You guessed it!");
+    }
+
+    @Test
+    void testHintButtonWithHintEngine() {
+        MasterMindLogic logic = new MasterMindLogic(colors, 4, labels);
+        logic.setHintEngine(new HintEngine(new CodeSpace(colors.length, 4)));
+        MasterMindUI spiedUi = spy(new MasterMindUI());
+        spiedUi.initialize(colors, labels, rounds, logic);
+        doNothing().when(spiedUi).dialog(anyString());
+
+        JPanel bottomPanel = spiedUi.createBottomPanel(colors, labels);
+        JPanel controlPanel = (JPanel) ((BorderLayout) bottomPanel.getLayout()).getLayoutComponent(BorderLayout.EAST);
+        assertEquals(3, controlPanel.getComponentCount());
+        JButton hintBtn = (JButton) controlPanel.getComponent(2);
+        assertEquals("Hint", hintBtn.getText());
+
+        hintBtn.doClick();
+        HintEngine.Hint hint = logic.hint();
+        String code = logic.getPalette().labels(Scoring.decode(hint.code, 4));
+        verify(spiedUi).dialog(String.format("Hint: %s (%.1f bits)", code, hint.bits));
+    }
+}
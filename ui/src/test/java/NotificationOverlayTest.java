@@ -0,0 +1,84 @@
+import org.example.ui.NotificationOverlay;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationOverlayTest {
+
+    @Test
+    void testMessagesAreShownOneAtATime() {
+        NotificationOverlay overlay = new NotificationOverlay(60_000);
+        assertNull(overlay.getMessage());
+        assertFalse(overlay.isVisible());
+
+        overlay.post("first");
+        overlay.post("second");
+        assertEquals("first", overlay.getMessage());
+        assertEquals(1, overlay.getQueued());
+        assertTrue(overlay.isVisible());
+
+        overlay.dismiss();
+        assertEquals("second", overlay.getMessage());
+        overlay.dismiss();
+        assertNull(overlay.getMessage());
+        assertFalse(overlay.isVisible());
+    }
+
+    @Test
+    void testBacklogIsBounded() {
+        NotificationOverlay overlay = new NotificationOverlay(60_000);
+        for (int i = 0; i < 20; i++) {
+            overlay.post("message " + i);
+        }
+        assertEquals("message 0", overlay.getMessage());
+        assertEquals(4, overlay.getQueued());
+
+        // The newest messages are the ones kept
+        overlay.dismiss();
+        assertEquals("message 16", overlay.getMessage());
+    }
+
+    @Test
+    void testMessagesExpireOnTheirOwn() throws Exception {
+        NotificationOverlay overlay = new NotificationOverlay(20);
+        EventQueue.invokeAndWait(() -> overlay.post("short"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (overlay.getMessage() != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(overlay.getMessage());
+    }
+
+    @Test
+    void testBannerTakesClicksBeforeItIsPainted() {
+        NotificationOverlay overlay = new NotificationOverlay(60_000);
+        overlay.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 16));
+        overlay.post("You guessed it!");
+        overlay.setSize(400, 300);
+
+        assertTrue(overlay.contains(200, 30));
+        overlay.dismiss();
+        assertFalse(overlay.contains(200, 30));
+    }
+
+    @Test
+    void testOnlyTheBannerTakesClicks() {
+        NotificationOverlay overlay = new NotificationOverlay(60_000);
+        overlay.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 16));
+        overlay.setSize(400, 300);
+        overlay.post("Black: 1. White: 2");
+
+        BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        overlay.paint(g);
+        g.dispose();
+
+        assertTrue(overlay.contains(200, 30));
+        assertFalse(overlay.contains(200, 200));
+        assertNotEquals(0, image.getRGB(200, 20) >>> 24, "Banner is painted at the top");
+        assertEquals(0, image.getRGB(200, 200) >>> 24, "Rest of the board stays visible");
+    }
+}
@@ -0,0 +1,53 @@
+import org.example.ui.Palette;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaletteTest {
+
+    private final Palette palette = new Palette(
+            new Color[]{Color.RED, Color.GREEN, Color.BLUE},
+            new String[]{"R", "G", "B"});
+
+    @Test
+    void testIndexOfColorUsesValueEquality() {
+        assertEquals(0, palette.indexOf(Color.RED));
+        assertEquals(2, palette.indexOf(new Color(0, 0, 255)));
+        assertThrows(IllegalArgumentException.class, () -> palette.indexOf(Color.BLACK));
+    }
+
+    @Test
+    void testIndexOfLabel() {
+        assertEquals(1, palette.indexOf("G"));
+        assertThrows(IllegalArgumentException.class, () -> palette.indexOf("X"));
+    }
+
+    @Test
+    void testLookupsByIndex() {
+        assertEquals(3, palette.size());
+        assertEquals(Color.GREEN, palette.color(1));
+        assertEquals("B", palette.label(2));
+        assertArrayEquals(new int[]{2, 0, 0}, palette.indicesOf(new Color[]{Color.BLUE, Color.RED, Color.RED}));
+        assertEquals("BRRG", palette.labels(new int[]{2, 0, 0, 1}));
+    }
+
+    @Test
+    void testDefensiveCopies() {
+        Color[] colors = palette.getColors();
+        colors[0] = Color.BLACK;
+        assertEquals(Color.RED, palette.color(0));
+        assertArrayEquals(new String[]{"R", "G", "B"}, palette.getLabels());
+    }
+
+    @Test
+    void testRejectsInvalidPalettes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Palette(new Color[]{Color.RED}, new String[]{"R", "G"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Palette(new Color[]{Color.RED, new Color(255, 0, 0)}, new String[]{"R", "S"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Palette(new Color[]{Color.RED, Color.BLUE}, new String[]{"R", "R"}));
+    }
+}
@@ -0,0 +1,77 @@
+import org.example.Scoring;
+import org.example.ui.BoardModel;
+import org.example.ui.RowPainter;
+import org.example.ui.VirtualBoard;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualBoardTest {
+
+    private final Color[] colors = {Color.RED, Color.GREEN, Color.BLUE};
+    private final Color background = new Color(141, 69, 220);
+    private final Color empty = new Color(187, 183, 172);
+
+    private void press(VirtualBoard board, int x, int y) {
+        MouseEvent e = new MouseEvent(board, MouseEvent.MOUSE_PRESSED, 0, 0, x, y, 1, false);
+        for (var listener : board.getMouseListeners()) {
+            listener.mousePressed(e);
+        }
+    }
+
+    @Test
+    void testSizeGrowsWithRoundsWithoutChildComponents() {
+        RowPainter painter = new RowPainter(4, colors, background, empty);
+        VirtualBoard board = new VirtualBoard(new BoardModel(100_000, 4), painter, 10);
+
+        // Only the renderer pane JList keeps for stamping rows
+        assertEquals(1, board.getComponentCount());
+        assertEquals(100_000 * painter.rowHeight, board.getPreferredSize().height);
+        assertEquals(painter.width, board.getPreferredSize().width);
+        assertEquals(10 * painter.rowHeight, board.getPreferredScrollableViewportSize().height);
+    }
+
+    @Test
+    void testClickColorsSlotOfCurrentRowOnly() {
+        RowPainter painter = new RowPainter(4, colors, background, empty);
+        BoardModel model = new BoardModel(50, 4);
+        VirtualBoard board = new VirtualBoard(model, painter, 10);
+        board.setSize(board.getPreferredSize());
+        model.setSelectedColor(1);
+
+        press(board, painter.slotX(2) + 10, 20);
+        assertEquals(1, model.getPeg(0, 2));
+
+        press(board, painter.slotX(0) + 10, painter.rowHeight + 20);
+        assertEquals(BoardModel.EMPTY, model.getPeg(1, 0));
+
+        // Between slots nothing is hit
+        press(board, painter.slotX(1) - 2, 20);
+        assertEquals(BoardModel.EMPTY, model.getPeg(0, 0));
+        assertEquals(BoardModel.EMPTY, model.getPeg(0, 1));
+    }
+
+    @Test
+    void testRowPainterDrawsPegsAndPins() {
+        RowPainter painter = new RowPainter(4, colors, background, empty);
+        BoardModel model = new BoardModel(2, 4);
+        model.setPeg(0, 3, 2);
+        model.setFeedback(0, Scoring.feedback(1, 1));
+
+        BufferedImage image = new BufferedImage(painter.width, painter.rowHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        painter.paint(g, model, 0, 0);
+        g.dispose();
+
+        int center = painter.rowHeight / 2;
+        assertEquals(Color.BLUE.getRGB(), image.getRGB(painter.slotX(3) + 17, center));
+        assertEquals(empty.getRGB(), image.getRGB(painter.slotX(0) + 17, center));
+        assertEquals(background.getRGB(), image.getRGB(painter.width - 2, 1));
+        assertEquals(Color.BLACK.getRGB(), image.getRGB(15, center - 7));
+        assertEquals(Color.WHITE.getRGB(), image.getRGB(30, center - 7));
+    }
+}